@@ -0,0 +1,25 @@
+package com.java.admin.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "blacklist")
+@Validated
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class BlacklistPropertiesConfig {
+    private Duration refreshInterval = Duration.ofSeconds(5);
+    private Duration refreshOverlap = Duration.ofMinutes(1);
+    private Duration purgeInterval = Duration.ofMinutes(15);
+    private int purgeBatchSize = 1_000;
+}
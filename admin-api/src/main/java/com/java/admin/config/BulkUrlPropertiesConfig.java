@@ -0,0 +1,30 @@
+package com.java.admin.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "bulk-url")
+@Validated
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class BulkUrlPropertiesConfig {
+
+    @Min(1)
+    private int maxItems = 50_000;
+    @Min(1)
+    private int chunkSize = 500;
+    @Min(1)
+    private int importMaxRecordLength = 65_536;
+    private Duration importStaleAfter = Duration.ofMinutes(5);
+}
@@ -0,0 +1,35 @@
+package com.java.admin.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches are configured under {@code spring.cache}. Spring Boot already publishes
+ * cache.gets{result=hit|miss} for each of them; the hit ratio is added so it can be read directly.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Login details by email, see UserDetailServiceImpl
+    public static final String USER_DETAILS_CACHE = "admin.user.details";
+    // User profiles by id, see UserServiceImpl
+    public static final String USER_PROFILE_CACHE = "admin.user.profile";
+
+    @Bean
+    public MeterBinder cacheHitRatioMetrics(CacheManager cacheManager) {
+        return registry -> cacheManager.getCacheNames().forEach(name -> {
+            if (cacheManager.getCache(name) instanceof CaffeineCache caffeineCache) {
+                Gauge.builder("cache.hit.ratio", caffeineCache.getNativeCache(), cache -> cache.stats().hitRate())
+                        .tag("cache", name)
+                        .description("Share of lookups answered from the cache since startup")
+                        .register(registry);
+            }
+        });
+    }
+}
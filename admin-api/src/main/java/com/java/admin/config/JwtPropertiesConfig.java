@@ -8,6 +8,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties(prefix = "jwt")
 @Validated
@@ -19,4 +21,8 @@ public class JwtPropertiesConfig {
     private String jwtSecret;
     private long refreshTokenExpiration;
     private long jwtExpiration;
+    private int claimsCacheSize = 10_000;
+    private Duration claimsCacheTtl = Duration.ofMinutes(5);
+    private Duration securityVersionRefreshInterval = Duration.ofSeconds(5);
+    private Duration securityVersionRefreshOverlap = Duration.ofMinutes(1);
 }
@@ -0,0 +1,37 @@
+package com.java.admin.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "password-hashing")
+@Validated
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class PasswordHashingPropertiesConfig {
+    @Min(0)
+    private int threads = 0;
+    @Min(0)
+    private int queueCapacity = 32;
+    @Min(0)
+    @Max(31)
+    private int strength = 0;
+    private Duration latencyBudget = Duration.ofMillis(250);
+    @Min(4)
+    @Max(31)
+    private int minStrength = 10;
+    @Min(4)
+    @Max(31)
+    private int maxStrength = 14;
+}
@@ -2,8 +2,12 @@ package com.java.admin.config;
 
 import com.java.admin.constant.ApiAccountEndpoints;
 import com.java.admin.constant.ApiAuthEndpoints;
+import com.java.admin.security.BoundedPasswordEncoder;
+import com.java.admin.security.CalibratedPasswordEncoder;
 import com.java.admin.security.JwtAuthenticationFilter;
 import com.java.admin.service.auth.UserDetailServiceImpl;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,7 +17,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -21,6 +24,13 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -29,6 +39,7 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserDetailServiceImpl userDetailsService;
     private final CorsConfigurationSource corsConfigurationSource;
+    private final PasswordHashingPropertiesConfig passwordHashingPropertiesConfig;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -61,6 +72,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder());
+        provider.setUserDetailsPasswordService(userDetailsService);
         return provider;
     }
 
@@ -71,6 +83,57 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(calibratedPasswordEncoder(), passwordHashingExecutor());
+    }
+
+    /**
+     * BCrypt at password-hashing.strength, or at the strength calibrated for this host when it is 0.
+     * Hashes of any other strength are re-encoded on the next successful login.
+     */
+    @Bean
+    public CalibratedPasswordEncoder calibratedPasswordEncoder() {
+        if (passwordHashingPropertiesConfig.getStrength() > 0) {
+            return CalibratedPasswordEncoder.fixed(passwordHashingPropertiesConfig.getStrength());
+        }
+        return CalibratedPasswordEncoder.calibrate(
+                passwordHashingPropertiesConfig.getLatencyBudget(),
+                passwordHashingPropertiesConfig.getMinStrength(),
+                passwordHashingPropertiesConfig.getMaxStrength());
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics() {
+        CalibratedPasswordEncoder encoder = calibratedPasswordEncoder();
+        return registry -> {
+            Gauge.builder("password.hashing.strength", encoder, CalibratedPasswordEncoder::getStrength)
+                    .description("BCrypt strength used for new password hashes")
+                    .register(registry);
+            Gauge.builder("password.hashing.duration", encoder, e -> e.getHashTime().toMillis())
+                    .baseUnit("milliseconds")
+                    .description("Time of one password hash at that strength, measured at startup")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Threads that run BCrypt for login, sign up and password changes, one per core by default.
+     * Submissions past the queue are rejected rather than run on the request thread.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor() {
+        int threads = passwordHashingPropertiesConfig.getThreads() > 0
+                ? passwordHashingPropertiesConfig.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        int queueCapacity = passwordHashingPropertiesConfig.getQueueCapacity();
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
     }
 }
\ No newline at end of file
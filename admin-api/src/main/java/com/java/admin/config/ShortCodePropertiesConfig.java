@@ -0,0 +1,22 @@
+package com.java.admin.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Configuration
+@ConfigurationProperties(prefix = "short-code")
+@Validated
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class ShortCodePropertiesConfig {
+    private String secret;
+    private boolean migrationEnabled;
+    private int migrationBatchSize = 1_000;
+}
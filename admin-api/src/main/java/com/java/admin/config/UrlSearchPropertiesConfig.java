@@ -0,0 +1,27 @@
+package com.java.admin.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "url-search")
+@Validated
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class UrlSearchPropertiesConfig {
+    private boolean indexEnabled = true;
+    private int maxIndexedUsers = 500;
+    private int maxUrlsPerUser = 50_000;
+    private int maxCandidates = 1_000;
+    private Duration rebuildAfter = Duration.ofMinutes(10);
+    private Duration changeOverlap = Duration.ofMinutes(1);
+}
@@ -1,5 +1,7 @@
 package com.java.admin.controller.url;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.admin.config.BulkUrlPropertiesConfig;
 import com.java.admin.config.CustomLogger;
 import com.java.admin.constant.ApiUrlEndpoints;
 import com.java.admin.dto.ApiResponseDto;
@@ -7,9 +9,13 @@ import com.java.admin.dto.url.request.CreateUrlRequestDto;
 import com.java.admin.dto.url.request.GetUrlsRequestDto;
 import com.java.admin.dto.url.request.PatchUrlRequestDto;
 import com.java.admin.dto.url.request.PutUrlRequestDto;
+import com.java.admin.dto.url.response.BulkCreateUrlResponseDto;
+import com.java.admin.usecase.url.IUrlBulkService;
 import com.java.admin.usecase.url.IUrlService;
 import com.java.admin.security.CustomAuthUser;
+import com.java.admin.util.NdjsonReader;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -26,7 +32,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @RequestMapping(ApiUrlEndpoints.BASE_PATH)
@@ -35,6 +43,9 @@ import java.util.ArrayList;
 public class UrlController {
 
     private final IUrlService urlService;
+    private final IUrlBulkService urlBulkService;
+    private final ObjectMapper objectMapper;
+    private final BulkUrlPropertiesConfig bulkUrlPropertiesConfig;
 
     @PostMapping(produces = "application/json", consumes = "application/json")
     public ResponseEntity<ApiResponseDto> createShortUrl(
@@ -53,6 +64,37 @@ public class UrlController {
         );
     }
 
+    @PostMapping(value = "/bulk", produces = "application/json", consumes = "application/json")
+    public ResponseEntity<ApiResponseDto> createShortUrls(
+            @RequestBody List<CreateUrlRequestDto> createUrlRequestDtos,
+            Authentication authentication) {
+
+        Object principal = authentication.getPrincipal();
+        CustomAuthUser getCurrentUserId = (CustomAuthUser) principal;
+
+        CustomLogger.logInfo(UrlController.class, "Creating short URLs in bulk for user ID: " + getCurrentUserId.getId());
+
+        return toBulkResponse(urlBulkService.createUrls(createUrlRequestDtos.iterator(), getCurrentUserId.getId()));
+    }
+
+    // One CreateUrlRequestDto per line, read while the items are being created
+    @PostMapping(value = "/bulk", produces = "application/json", consumes = "application/x-ndjson")
+    public ResponseEntity<ApiResponseDto> createShortUrlsFromStream(
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+
+        Object principal = authentication.getPrincipal();
+        CustomAuthUser getCurrentUserId = (CustomAuthUser) principal;
+
+        CustomLogger.logInfo(UrlController.class, "Creating short URLs from stream for user ID: " + getCurrentUserId.getId());
+
+        NdjsonReader<CreateUrlRequestDto> createUrlRequests =
+                new NdjsonReader<>(request.getReader(), objectMapper.readerFor(CreateUrlRequestDto.class),
+                        bulkUrlPropertiesConfig.getImportMaxRecordLength());
+
+        return toBulkResponse(urlBulkService.createUrls(createUrlRequests, getCurrentUserId.getId()));
+    }
+
     @GetMapping(produces = "application/json")
     public ResponseEntity<ApiResponseDto> getAllUrlsByUserId(
             @ModelAttribute GetUrlsRequestDto getUrlsRequestDto,
@@ -122,4 +164,14 @@ public class UrlController {
                         urlService.deleteUrl(urlId, getCurrentUserId.getId()))
         );
     }
+
+    private static ResponseEntity<ApiResponseDto> toBulkResponse(BulkCreateUrlResponseDto bulkCreateUrlResponseDto) {
+        boolean allCreated = bulkCreateUrlResponseDto.failed() == 0;
+
+        return ResponseEntity.status(allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(
+                new ApiResponseDto(new ArrayList<>(),
+                        allCreated,
+                        bulkCreateUrlResponseDto)
+        );
+    }
 }
@@ -0,0 +1,52 @@
+package com.java.admin.controller.url;
+
+import com.java.admin.config.CustomLogger;
+import com.java.admin.constant.ApiUrlEndpoints;
+import com.java.admin.entity.url.UrlFileFormat;
+import com.java.admin.security.CustomAuthUser;
+import com.java.admin.usecase.url.IUrlExportService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping(ApiUrlEndpoints.BASE_PATH + "/export")
+@RequiredArgsConstructor
+@Tag(name = "Url export", description = "Endpoints for exporting URLs as CSV or NDJSON files")
+public class UrlExportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson;charset=UTF-8");
+
+    private final IUrlExportService urlExportService;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportUrls(
+            @RequestParam(defaultValue = "NDJSON") UrlFileFormat format,
+            Authentication authentication) {
+
+        Object principal = authentication.getPrincipal();
+        CustomAuthUser getCurrentUserId = (CustomAuthUser) principal;
+        Long userId = getCurrentUserId.getId();
+
+        CustomLogger.logInfo(UrlExportController.class, "Exporting URLs as " + format + " for user ID: " + userId);
+
+        boolean csv = format == UrlFileFormat.CSV;
+        String fileName = "urls." + (csv ? "csv" : "ndjson");
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(csv ? TEXT_CSV : APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(output -> urlExportService.exportUrls(format, userId, output));
+    }
+}
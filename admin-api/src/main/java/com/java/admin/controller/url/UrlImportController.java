@@ -0,0 +1,112 @@
+package com.java.admin.controller.url;
+
+import com.java.admin.config.CustomLogger;
+import com.java.admin.constant.ApiUrlEndpoints;
+import com.java.admin.dto.ApiResponseDto;
+import com.java.admin.dto.url.response.UrlImportJobResponseDto;
+import com.java.admin.entity.url.UrlFileFormat;
+import com.java.admin.entity.url.UrlImportStatus;
+import com.java.admin.security.CustomAuthUser;
+import com.java.admin.usecase.url.IUrlImportService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Large uploads run in two steps: create the import to get its ID, then PUT the file to it.
+ * If the upload breaks, PUT the same file again; rows before the checkpoint are skipped.
+ */
+@RestController
+@RequestMapping(ApiUrlEndpoints.BASE_PATH + "/imports")
+@RequiredArgsConstructor
+@Tag(name = "Url import", description = "Endpoints for importing URLs from CSV or NDJSON files")
+public class UrlImportController {
+
+    private final IUrlImportService urlImportService;
+
+    @PostMapping(produces = "application/json")
+    public ResponseEntity<ApiResponseDto> createImportJob(
+            @RequestParam UrlFileFormat format,
+            Authentication authentication) {
+
+        Object principal = authentication.getPrincipal();
+        CustomAuthUser getCurrentUserId = (CustomAuthUser) principal;
+
+        CustomLogger.logInfo(UrlImportController.class, "Creating URL import for user ID: " + getCurrentUserId.getId());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(
+                new ApiResponseDto(new ArrayList<>(),
+                        true,
+                        urlImportService.createImportJob(format, getCurrentUserId.getId()))
+        );
+    }
+
+    @PutMapping(value = "/{jobId}", produces = "application/json", consumes = "text/csv")
+    public ResponseEntity<ApiResponseDto> uploadCsv(
+            @PathVariable Long jobId,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+
+        return runImport(jobId, UrlFileFormat.CSV, request, authentication);
+    }
+
+    @PutMapping(value = "/{jobId}", produces = "application/json", consumes = "application/x-ndjson")
+    public ResponseEntity<ApiResponseDto> uploadNdjson(
+            @PathVariable Long jobId,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+
+        return runImport(jobId, UrlFileFormat.NDJSON, request, authentication);
+    }
+
+    @GetMapping(value = "/{jobId}", produces = "application/json")
+    public ResponseEntity<ApiResponseDto> getImportJob(
+            @PathVariable Long jobId,
+            Authentication authentication) {
+
+        Object principal = authentication.getPrincipal();
+        CustomAuthUser getCurrentUserId = (CustomAuthUser) principal;
+
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new ApiResponseDto(new ArrayList<>(),
+                        true,
+                        urlImportService.getImportJob(jobId, getCurrentUserId.getId()))
+        );
+    }
+
+    private ResponseEntity<ApiResponseDto> runImport(
+            Long jobId,
+            UrlFileFormat format,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+
+        Object principal = authentication.getPrincipal();
+        CustomAuthUser getCurrentUserId = (CustomAuthUser) principal;
+
+        CustomLogger.logInfo(UrlImportController.class, "Uploading " + format + " file to URL import " + jobId +
+                " for user ID: " + getCurrentUserId.getId());
+
+        UrlImportJobResponseDto urlImportJob =
+                urlImportService.runImport(jobId, format, request.getInputStream(), getCurrentUserId.getId());
+        boolean completed = UrlImportStatus.COMPLETED.name().equals(urlImportJob.status());
+
+        return ResponseEntity.status(completed ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY).body(
+                new ApiResponseDto(new ArrayList<>(),
+                        completed,
+                        urlImportJob)
+        );
+    }
+}
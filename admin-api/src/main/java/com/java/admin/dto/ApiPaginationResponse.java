@@ -1,14 +1,16 @@
 package com.java.admin.dto;
 
+// In cursor mode pageNumber is null, and the totals are null unless includeCount was requested
 public record ApiPaginationResponse(
-        long totalElements,
-        int totalPages,
-        int pageNumber,
+        Long totalElements,
+        Integer totalPages,
+        Integer pageNumber,
         int pageSize,
         boolean isLastPage,
         boolean isFirstPage,
         boolean hasNextPage,
         boolean hasPreviousPage,
+        String nextCursor,
         Object data
 ) {
 }
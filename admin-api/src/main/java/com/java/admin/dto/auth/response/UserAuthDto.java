@@ -0,0 +1,13 @@
+package com.java.admin.dto.auth.response;
+
+public record UserAuthDto(
+        Long id,
+        String email,
+        String password,
+        boolean enabled,
+        boolean accountNonExpired,
+        boolean credentialsNonExpired,
+        boolean accountNonLocked,
+        long securityVersion
+) {
+}
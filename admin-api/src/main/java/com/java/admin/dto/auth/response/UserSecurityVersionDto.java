@@ -0,0 +1,11 @@
+package com.java.admin.dto.auth.response;
+
+import java.time.OffsetDateTime;
+
+public record UserSecurityVersionDto(
+        Long userId,
+        String email,
+        long securityVersion,
+        OffsetDateTime securityChangedAt
+) {
+}
@@ -44,7 +44,14 @@ public record GetUrlsRequestDto(
         OffsetDateTime validSince,
 
         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-        OffsetDateTime validUntil
+        OffsetDateTime validUntil,
+
+        // Paginación por cursor: vacío para la primera página, luego el nextCursor de la respuesta.
+        // Ignora page y solo admite ordenar por createdAt
+        String cursor,
+
+        // Ejecuta el COUNT en modo cursor, que por defecto no se calcula
+        Boolean includeCount
 ) {
     // Constructor que valida la relación entre fechas
     public GetUrlsRequestDto {
@@ -2,6 +2,7 @@ package com.java.admin.dto.url.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import org.springframework.format.annotation.DateTimeFormat;
 
@@ -11,6 +12,7 @@ public record PutUrlRequestDto(
         @NotNull(message = "Custom alias cannot be null")
         @NotBlank(message = "Custom alias cannot be blank")
         @Size(min = 3, max = 20, message = "Custom alias must be between 3 and 20 characters")
+        @Pattern(regexp = "^[A-Za-z0-9_-]+$", message = "Custom alias can only contain letters, digits, '-' and '_'")
         String customAlias,
         @NotNull(message = "URL cannot be null")
         @NotBlank(message = "URL cannot be blank")
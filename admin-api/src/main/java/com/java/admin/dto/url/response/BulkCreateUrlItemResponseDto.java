@@ -0,0 +1,13 @@
+package com.java.admin.dto.url.response;
+
+import com.java.admin.dto.ApiError;
+
+import java.util.List;
+
+public record BulkCreateUrlItemResponseDto(
+        Long index,
+        Boolean success,
+        CreateUrlResponseDto url,
+        List<ApiError> errors
+) {
+}
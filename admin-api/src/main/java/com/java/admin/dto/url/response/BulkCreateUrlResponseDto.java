@@ -0,0 +1,12 @@
+package com.java.admin.dto.url.response;
+
+import java.util.List;
+
+public record BulkCreateUrlResponseDto(
+        Integer received,
+        Integer created,
+        Integer failed,
+        Boolean truncated,
+        List<BulkCreateUrlItemResponseDto> items
+) {
+}
@@ -0,0 +1,17 @@
+package com.java.admin.dto.url.response;
+
+import java.time.OffsetDateTime;
+
+// Field names match the import columns, so an export can be imported again as it is
+public record UrlExportRowDto(
+        Long id,
+        String shortUrl,
+        String url,
+        String customAlias,
+        String description,
+        OffsetDateTime validSince,
+        OffsetDateTime validUntil,
+        Boolean isActive,
+        Long clickCount,
+        OffsetDateTime createdAt
+) { }
@@ -0,0 +1,16 @@
+package com.java.admin.dto.url.response;
+
+import java.time.OffsetDateTime;
+
+public record UrlImportJobResponseDto(
+        Long id,
+        String format,
+        String status,
+        Long checkpointRow,
+        Long createdRows,
+        Long failedRows,
+        String lastError,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt
+) {
+}
@@ -29,8 +29,8 @@ public class BlacklistedTokenEntity implements Serializable {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "token", nullable = false, unique = true)
-    private String token;
+    @Column(name = "token_digest", nullable = false, unique = true, length = 64)
+    private String tokenDigest;
 
     @Column(name = "expiryAt", nullable = false)
     private OffsetDateTime expiryAt;
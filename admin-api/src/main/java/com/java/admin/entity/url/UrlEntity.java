@@ -4,12 +4,14 @@ import com.java.admin.entity.user.UserEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,6 +19,7 @@ import lombok.Setter;
 import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -29,16 +32,19 @@ import java.time.OffsetDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
-public class UrlEntity implements Serializable {
+public class UrlEntity implements Persistable<Long>, Serializable {
 
     @Serial
     private static final long serialVersionUID = -1133836016600605686L;
 
+    // Assigned from UrlIdAllocator before the insert, so the short code goes into the same INSERT
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     @Column(name = "original_url", nullable = false)
     private String originalUrl;
+    // OriginalUrlHasher.hash(originalUrl), kept in step by every write of originalUrl
+    @Column(name = "url_hash", nullable = false, length = 64)
+    private String urlHash;
     @Column(name = "short_url", unique = true)
     private String shortUrl;
     @Column(name = "custom_alias")
@@ -65,5 +71,22 @@ public class UrlEntity implements Serializable {
     private OffsetDateTime updatedAt;
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted;
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean persisted;
+
+    // With an assigned id, Spring Data would otherwise merge and SELECT before every insert
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
 
 }
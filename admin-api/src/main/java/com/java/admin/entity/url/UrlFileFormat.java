@@ -0,0 +1,6 @@
+package com.java.admin.entity.url;
+
+public enum UrlFileFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,61 @@
+package com.java.admin.entity.url;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+
+@Table(name = "url_import_job")
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class UrlImportJobEntity implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3871942051664328390L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false)
+    private UrlFileFormat format;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private UrlImportStatus status;
+    @Column(name = "checkpoint_row", nullable = false)
+    private long checkpointRow;
+    @Column(name = "created_rows", nullable = false)
+    private long createdRows;
+    @Column(name = "failed_rows", nullable = false)
+    private long failedRows;
+    @Column(name = "last_error")
+    private String lastError;
+    @Column(name = "created_at", nullable = false)
+    @CreationTimestamp
+    private OffsetDateTime createdAt;
+    @Column(name = "updated_at", nullable = false)
+    @UpdateTimestamp
+    private OffsetDateTime updatedAt;
+
+}
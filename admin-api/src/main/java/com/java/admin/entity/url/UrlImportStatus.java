@@ -0,0 +1,8 @@
+package com.java.admin.entity.url;
+
+public enum UrlImportStatus {
+    PENDING,
+    RUNNING,
+    FAILED,
+    COMPLETED
+}
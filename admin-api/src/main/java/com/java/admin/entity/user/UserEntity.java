@@ -77,6 +77,10 @@ public class UserEntity implements Serializable {
     private boolean isCredentialsNonExpired;
     @Column(name = "is_account_non_locked", nullable = false)
     private boolean isAccountNonLocked;
+    @Column(name = "security_version", nullable = false)
+    private long securityVersion;
+    @Column(name = "security_changed_at")
+    private OffsetDateTime securityChangedAt;
 
     // Verification Fields
     @Column(name = "verification_token")
@@ -108,6 +112,12 @@ public class UserEntity implements Serializable {
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted;
 
+    // Invalidates the access tokens issued before this change
+    public void changeSecurityVersion() {
+        securityVersion++;
+        securityChangedAt = OffsetDateTime.now();
+    }
+
     public void addUrl(UrlEntity url) {
         urls.add(url);
         url.setUser(this);
@@ -0,0 +1,8 @@
+package com.java.admin.event;
+
+// Published after a user row is saved with changes that cached copies must not outlive
+public record UserChangedEvent(
+        Long userId,
+        String email
+) {
+}
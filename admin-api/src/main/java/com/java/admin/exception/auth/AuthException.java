@@ -14,14 +14,17 @@ public class AuthException extends RuntimeException {
     public static final Integer AUTHENTICATION_FAILED_CODE = 401;
     public static final Integer INVALID_TOKEN_CODE = 403;
     public static final Integer REFRESH_TOKEN_INVALID_CODE = 403;
+    public static final Integer PASSWORD_HASHING_BUSY_CODE = 429;
 
     public static final String AUTHENTICATION_FAILED_MESSAGE = "Authentication failed";
     public static final String INVALID_TOKEN_MESSAGE = "Invalid or expired token";
     public static final String REFRESH_TOKEN_INVALID_MESSAGE = "Refresh token is invalid or expired";
+    public static final String PASSWORD_HASHING_BUSY_MESSAGE = "Too many password checks in progress, try again later";
 
     public static final String AUTHENTICATION_FAILED_CAUSE = "InvalidCredentialsException";
     public static final String INVALID_TOKEN_CAUSE = "InvalidTokenException";
     public static final String REFRESH_TOKEN_INVALID_CAUSE = "RefreshTokenInvalidException";
+    public static final String PASSWORD_HASHING_BUSY_CAUSE = "PasswordHashingBusyException";
 
     @Serial
     private static final long serialVersionUID = 2023350088318803885L;
@@ -13,19 +13,40 @@ public class UrlException extends RuntimeException {
 
     public static final Integer URL_NOT_FOUND_CODE = 404;
     public static final Integer URL_ALREADY_EXISTS_CODE = 409;
+    public static final Integer URL_ALIAS_ALREADY_EXISTS_CODE = 409;
+    public static final Integer URL_INVALID_ITEM_CODE = 400;
+    public static final Integer URL_CREATE_FAILED_CODE = 422;
     public static final Integer URL_UPDATE_FAILED_CODE = 422;
+    public static final Integer URL_IMPORT_NOT_FOUND_CODE = 404;
+    public static final Integer URL_IMPORT_NOT_RESUMABLE_CODE = 409;
+    public static final Integer URL_IMPORT_INVALID_UPLOAD_CODE = 400;
+    public static final Integer URL_INVALID_CURSOR_CODE = 400;
     public static final Integer URL_DELETE_FAILED_CODE = 422;
     public static final Integer URL_STATUS_UPDATE_FAILED_CODE = 422;
 
     public static final String URL_NOT_FOUND_MESSAGE = "URL not found";
     public static final String URL_ALREADY_EXISTS_MESSAGE = "URL already exists";
+    public static final String URL_ALIAS_ALREADY_EXISTS_MESSAGE = "Custom alias is already in use";
+    public static final String URL_INVALID_ITEM_MESSAGE = "Item is not a valid URL request";
+    public static final String URL_CREATE_FAILED_MESSAGE = "Failed to create the URL";
     public static final String URL_UPDATE_FAILED_MESSAGE = "Failed to update the URL";
+    public static final String URL_IMPORT_NOT_FOUND_MESSAGE = "URL import not found";
+    public static final String URL_IMPORT_NOT_RESUMABLE_MESSAGE = "URL import is running or already completed";
+    public static final String URL_IMPORT_INVALID_UPLOAD_MESSAGE = "Upload does not match the URL import";
+    public static final String URL_INVALID_CURSOR_MESSAGE = "Cursor is not valid for this listing";
     public static final String URL_DELETE_FAILED_MESSAGE = "Failed to delete the URL";
     public static final String URL_STATUS_UPDATE_FAILED_MESSAGE = "Failed to update the URL status";
 
     public static final String URL_NOT_FOUND_CAUSE = "UrlNotFoundException";
     public static final String URL_ALREADY_EXISTS_CAUSE = "UrlAlreadyExistsException";
+    public static final String URL_ALIAS_ALREADY_EXISTS_CAUSE = "UrlAliasAlreadyExistsException";
+    public static final String URL_INVALID_ITEM_CAUSE = "UrlInvalidItemException";
+    public static final String URL_CREATE_FAILED_CAUSE = "UrlCreateFailedException";
     public static final String URL_UPDATE_FAILED_CAUSE = "UrlUpdateFailedException";
+    public static final String URL_IMPORT_NOT_FOUND_CAUSE = "UrlImportNotFoundException";
+    public static final String URL_IMPORT_NOT_RESUMABLE_CAUSE = "UrlImportNotResumableException";
+    public static final String URL_IMPORT_INVALID_UPLOAD_CAUSE = "UrlImportInvalidUploadException";
+    public static final String URL_INVALID_CURSOR_CAUSE = "UrlInvalidCursorException";
     public static final String URL_DELETE_FAILED_CAUSE = "UrlDeleteFailedException";
     public static final String URL_STATUS_UPDATE_FAILED_CAUSE = "UrlStatusUpdateFailedException";
 
@@ -1,9 +1,13 @@
 package com.java.admin.mapper.url;
 
+import com.java.admin.dto.url.request.CreateUrlRequestDto;
 import com.java.admin.dto.url.response.CreateUrlResponseDto;
 import com.java.admin.dto.url.response.PatchUrlResponseDto;
 import com.java.admin.dto.url.response.PutUrlResponseDto;
+import com.java.admin.dto.url.response.UrlImportJobResponseDto;
 import com.java.admin.entity.url.UrlEntity;
+import com.java.admin.entity.url.UrlImportJobEntity;
+import com.java.admin.util.OriginalUrlHasher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -11,6 +15,22 @@ import java.util.List;
 @Component
 public class UrlMapper {
 
+    public UrlEntity toEntity(CreateUrlRequestDto createUrlRequestDto) {
+        if (createUrlRequestDto == null) {
+            return null;
+        }
+
+        UrlEntity urlEntity = new UrlEntity();
+        urlEntity.setOriginalUrl(createUrlRequestDto.url());
+        urlEntity.setUrlHash(OriginalUrlHasher.hash(createUrlRequestDto.url()));
+        urlEntity.setDescription(createUrlRequestDto.description());
+        urlEntity.setActive(Boolean.TRUE.equals(createUrlRequestDto.isActive()));
+        urlEntity.setClickCount(0L);
+        urlEntity.setValidSince(createUrlRequestDto.validSince());
+        urlEntity.setValidUntil(createUrlRequestDto.validUntil());
+        return urlEntity;
+    }
+
     public CreateUrlResponseDto toResponseDto(UrlEntity urlEntity) {
         if (urlEntity == null) {
             return null;
@@ -69,4 +89,22 @@ public class UrlMapper {
         );
     }
 
+    public UrlImportJobResponseDto toImportJobResponseDto(UrlImportJobEntity urlImportJobEntity) {
+        if (urlImportJobEntity == null) {
+            return null;
+        }
+
+        return new UrlImportJobResponseDto(
+                urlImportJobEntity.getId(),
+                urlImportJobEntity.getFormat().name(),
+                urlImportJobEntity.getStatus().name(),
+                urlImportJobEntity.getCheckpointRow(),
+                urlImportJobEntity.getCreatedRows(),
+                urlImportJobEntity.getFailedRows(),
+                urlImportJobEntity.getLastError(),
+                urlImportJobEntity.getCreatedAt(),
+                urlImportJobEntity.getUpdatedAt()
+        );
+    }
+
 }
@@ -0,0 +1,97 @@
+package com.java.admin.migration;
+
+import com.java.admin.config.CustomLogger;
+import com.java.admin.config.ShortCodePropertiesConfig;
+import com.java.admin.util.ShortCodeCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Moves links created with the old Random(id) codes to codec generated codes. Rows are streamed
+ * in id order one batch per transaction, so the run can be stopped and restarted at any point;
+ * rows that already carry their codec code are skipped. The old code is kept in url_code as a
+ * LEGACY row, so links that were already shared keep resolving.
+ * Enable with short-code.migration-enabled=true for one start, then turn it off again.
+ */
+@Component
+@ConditionalOnProperty(prefix = "short-code", name = "migration-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ShortCodeMigrationRunner implements ApplicationRunner {
+
+    private static final String FIND_BATCH =
+            "SELECT id, short_url FROM url_table WHERE id > ? AND short_url IS NOT NULL ORDER BY id LIMIT ?";
+
+    // The url_code trigger only removes SHORT rows, so the relabelled old code survives the update
+    private static final String KEEP_AS_LEGACY =
+            "UPDATE url_code SET kind = 'LEGACY' WHERE code = ? AND kind = 'SHORT'";
+
+    private static final String SET_SHORT_URL =
+            "UPDATE url_table SET short_url = ? WHERE id = ? AND short_url = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShortCodeCodec shortCodeCodec;
+    private final ShortCodePropertiesConfig shortCodePropertiesConfig;
+
+    private record Row(long id, String oldCode, String newCode) {
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.currentTimeMillis();
+        int batchSize = shortCodePropertiesConfig.getMigrationBatchSize();
+        long lastId = 0L;
+        long migrated = 0;
+        long skipped = 0;
+
+        List<Row> rows;
+        do {
+            rows = jdbcTemplate.query(FIND_BATCH,
+                    (rs, rowNum) -> {
+                        long id = rs.getLong("id");
+                        return new Row(id, rs.getString("short_url"), shortCodeCodec.encode(id));
+                    },
+                    lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastId = rows.get(rows.size() - 1).id();
+
+            List<Row> pending = rows.stream().filter(row -> !row.newCode().equals(row.oldCode())).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> pending.forEach(this::migrate));
+                migrated += pending.size();
+            } catch (DataAccessException e) {
+                // A new code can clash with an alias or a code not migrated yet; retry row by row
+                for (Row row : pending) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> migrate(row));
+                        migrated++;
+                    } catch (DataAccessException rowException) {
+                        skipped++;
+                        CustomLogger.logError(ShortCodeMigrationRunner.class,
+                                "Keeping old short code for URL ID: " + row.id(), rowException);
+                    }
+                }
+            }
+
+            CustomLogger.logInfo(ShortCodeMigrationRunner.class, "Short code migration reached URL ID: " + lastId);
+        } while (rows.size() == batchSize);
+
+        CustomLogger.logInfo(ShortCodeMigrationRunner.class, "Short code migration finished: " + migrated +
+                " migrated, " + skipped + " skipped in " + (System.currentTimeMillis() - started) + " ms");
+    }
+
+    private void migrate(Row row) {
+        jdbcTemplate.update(KEEP_AS_LEGACY, row.oldCode());
+        jdbcTemplate.update(SET_SHORT_URL, row.newCode(), row.id(), row.oldCode());
+    }
+}
@@ -2,12 +2,26 @@ package com.java.admin.repository.auth;
 
 import com.java.admin.entity.auth.BlacklistedTokenEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 
 @Repository
 public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedTokenEntity, Long> {
-    boolean existsByToken(String token);
-    void deleteByExpiryAtBefore(OffsetDateTime expiryAtBefore);
-}
\ No newline at end of file
+
+    List<BlacklistedTokenEntity> findByExpiryAtAfter(OffsetDateTime now);
+
+    List<BlacklistedTokenEntity> findByCreatedAtGreaterThanEqualAndExpiryAtAfter(OffsetDateTime since, OffsetDateTime now);
+
+    // Deletes at most batchSize expired rows, so a large purge does not hold one long transaction
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM blacklisted_tokens WHERE id IN " +
+            "(SELECT id FROM blacklisted_tokens WHERE expiry_at < :now LIMIT :batchSize)", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") OffsetDateTime now, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,40 @@
+package com.java.admin.repository.url;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Hands out url ids from blocks reserved on the url_table identity sequence (pooled-lo). One
+ * nextval reserves the ids from the returned value up to the sequence increment, so most ids are
+ * handed out from memory and the short code can be computed before the row is inserted.
+ * The block size is read from the sequence itself, so it always matches the increment and
+ * inserts that take the column default can never reuse an id handed out here.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UrlIdAllocator {
+
+    private static final String SEQUENCE = "pg_get_serial_sequence('url_table', 'id')";
+    private static final String NEXT_BLOCK = "SELECT nextval(" + SEQUENCE + ")";
+    private static final String BLOCK_SIZE =
+            "SELECT increment_by FROM pg_sequences WHERE format('%I.%I', schemaname, sequencename)::regclass = "
+                    + SEQUENCE + "::regclass";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private long blockSize;
+    private long next;
+    private long limit;
+
+    public synchronized long nextId() {
+        if (next == limit) {
+            if (blockSize == 0) {
+                blockSize = jdbcTemplate.queryForObject(BLOCK_SIZE, Long.class);
+            }
+            next = jdbcTemplate.queryForObject(NEXT_BLOCK, Long.class);
+            limit = next + blockSize;
+        }
+        return next++;
+    }
+}
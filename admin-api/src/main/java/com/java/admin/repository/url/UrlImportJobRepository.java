@@ -0,0 +1,55 @@
+package com.java.admin.repository.url;
+
+import com.java.admin.entity.url.UrlImportJobEntity;
+import com.java.admin.entity.url.UrlImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+@Repository
+public interface UrlImportJobRepository extends JpaRepository<UrlImportJobEntity, Long> {
+
+    Optional<UrlImportJobEntity> findByIdAndUserId(Long id, Long userId);
+
+    // Takes over a job that is waiting for its upload, or whose runner stopped reporting progress before staleBefore
+    @Modifying
+    @Transactional
+    @Query("UPDATE UrlImportJobEntity j SET j.status = com.java.admin.entity.url.UrlImportStatus.RUNNING, " +
+            "j.lastError = null, j.updatedAt = :now WHERE j.id = :jobId AND j.userId = :userId " +
+            "AND (j.status IN (com.java.admin.entity.url.UrlImportStatus.PENDING, com.java.admin.entity.url.UrlImportStatus.FAILED) " +
+            "OR (j.status = com.java.admin.entity.url.UrlImportStatus.RUNNING AND j.updatedAt < :staleBefore))")
+    int claimForResume(
+            @Param("jobId") Long jobId,
+            @Param("userId") Long userId,
+            @Param("now") OffsetDateTime now,
+            @Param("staleBefore") OffsetDateTime staleBefore);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE UrlImportJobEntity j SET j.checkpointRow = :checkpointRow, " +
+            "j.createdRows = j.createdRows + :createdRows, j.failedRows = j.failedRows + :failedRows, " +
+            "j.lastError = COALESCE(:lastError, j.lastError), j.updatedAt = :now WHERE j.id = :jobId")
+    int recordProgress(
+            @Param("jobId") Long jobId,
+            @Param("checkpointRow") long checkpointRow,
+            @Param("createdRows") long createdRows,
+            @Param("failedRows") long failedRows,
+            @Param("lastError") String lastError,
+            @Param("now") OffsetDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE UrlImportJobEntity j SET j.status = :status, " +
+            "j.lastError = COALESCE(:lastError, j.lastError), j.updatedAt = :now WHERE j.id = :jobId")
+    int finish(
+            @Param("jobId") Long jobId,
+            @Param("status") UrlImportStatus status,
+            @Param("lastError") String lastError,
+            @Param("now") OffsetDateTime now);
+}
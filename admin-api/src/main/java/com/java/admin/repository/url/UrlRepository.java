@@ -1,24 +1,52 @@
 package com.java.admin.repository.url;
 
+import com.java.admin.dto.url.response.UrlExportRowDto;
 import com.java.admin.entity.url.UrlEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UrlRepository extends JpaRepository<UrlEntity, Long>, JpaSpecificationExecutor<UrlEntity> {
 
-    @Query("SELECT u FROM UrlEntity u WHERE u.user.id = :userId AND u.isDeleted = false")
-    Optional<UrlEntity> findUrlEntitiesByUserAndDeletedIsFalseAndOriginalUrl(
+    String EXPORT_FETCH_SIZE = "1000";
+
+    // url_hash comes from OriginalUrlHasher, both probe the (user_id, url_hash) index
+    @Query("SELECT COUNT(u) > 0 FROM UrlEntity u WHERE u.user.id = :userId AND u.urlHash = :urlHash " +
+            "AND u.isDeleted = false")
+    boolean existsByUserIdAndUrlHashAndNotDeleted(
+            @Param("userId") Long userId,
+            @Param("urlHash") String urlHash);
+
+    @Query("SELECT u.urlHash FROM UrlEntity u WHERE u.user.id = :userId AND u.isDeleted = false " +
+            "AND u.urlHash IN :urlHashes")
+    List<String> findUrlHashesByUserIdAndUrlHashIn(
             @Param("userId") Long userId,
-            @Param("originalUrl") String originalUrl);
+            @Param("urlHashes") Collection<String> urlHashes);
+
+    // Rows come from a database cursor EXPORT_FETCH_SIZE at a time and are not managed entities,
+    // so the heap use does not grow with the number of URLs. Needs an open (read only) transaction.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.java.admin.dto.url.response.UrlExportRowDto(u.id, u.shortUrl, u.originalUrl, " +
+            "u.customAlias, u.description, u.validSince, u.validUntil, u.isActive, u.clickCount, u.createdAt) " +
+            "FROM UrlEntity u WHERE u.user.id = :userId AND u.isDeleted = false ORDER BY u.createdAt, u.id")
+    Stream<UrlExportRowDto> streamExportRowsByUserId(@Param("userId") Long userId);
 
     @Query("SELECT u FROM UrlEntity u WHERE u.id = :urlId AND u.user.id = :userId AND u.isDeleted = false")
     Optional<UrlEntity> findByIdAndUserIdAndNotDeleted(
@@ -35,7 +63,7 @@ public interface UrlRepository extends JpaRepository<UrlEntity, Long>, JpaSpecif
 
     @Modifying
     @Transactional
-    @Query("UPDATE UrlEntity u SET u.customAlias = :customAlias, u.originalUrl = :originalUrl, " +
+    @Query("UPDATE UrlEntity u SET u.customAlias = :customAlias, u.originalUrl = :originalUrl, u.urlHash = :urlHash, " +
             "u.description = :description, u.validSince = :validSince, u.validUntil = :validUntil, " +
             "u.isActive = :isActive WHERE u.id = :urlId AND u.user.id = :userId AND u.isDeleted = false")
     int updateUrl(
@@ -43,6 +71,7 @@ public interface UrlRepository extends JpaRepository<UrlEntity, Long>, JpaSpecif
             @Param("userId") Long userId,
             @Param("customAlias") String customAlias,
             @Param("originalUrl") String originalUrl,
+            @Param("urlHash") String urlHash,
             @Param("description") String description,
             @Param("validSince") OffsetDateTime validSince,
             @Param("validUntil") OffsetDateTime validUntil,
@@ -1,9 +1,14 @@
 package com.java.admin.repository.user;
 
+import com.java.admin.dto.auth.response.UserSecurityVersionDto;
 import com.java.admin.entity.user.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +19,8 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     boolean existsUserEntityByEmail(String email);
     Optional<UserEntity> findUserEntityByVerificationToken(String verificationToken);
     Optional<UserEntity> findUserEntityByResetPasswordToken(String resetPasswordToken);
+
+    @Query("SELECT new com.java.admin.dto.auth.response.UserSecurityVersionDto(u.id, u.email, u.securityVersion, u.securityChangedAt) " +
+            "FROM UserEntity u WHERE u.securityChangedAt >= :since")
+    List<UserSecurityVersionDto> findSecurityVersionsChangedSince(@Param("since") OffsetDateTime since);
 }
@@ -0,0 +1,87 @@
+package com.java.admin.security;
+
+import com.java.admin.config.CustomLogger;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt at a strength picked for this host. Any stored hash of another strength asks for an
+ * upgrade, so DaoAuthenticationProvider re-encodes it on the next successful login, whether the
+ * calibrated strength went up or down.
+ */
+public class CalibratedPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_STRENGTH = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    private final int strength;
+    private final Duration hashTime;
+
+    private CalibratedPasswordEncoder(int strength, Duration hashTime) {
+        super(strength);
+        this.strength = strength;
+        this.hashTime = hashTime;
+    }
+
+    public static CalibratedPasswordEncoder fixed(int strength) {
+        return new CalibratedPasswordEncoder(strength, measure(strength));
+    }
+
+    /**
+     * Times a hash at each strength from {@code minStrength} up and keeps the strongest whose median
+     * time fits the budget. Every step doubles the time, so the search stops at the first one over.
+     * When even {@code minStrength} is over budget it is kept anyway, as the floor.
+     */
+    public static CalibratedPasswordEncoder calibrate(Duration budget, int minStrength, int maxStrength) {
+        int strength = minStrength;
+        Duration hashTime = measure(minStrength);
+        while (strength < maxStrength) {
+            Duration next = measure(strength + 1);
+            if (next.compareTo(budget) > 0) {
+                break;
+            }
+            strength++;
+            hashTime = next;
+        }
+
+        CustomLogger.logInfo(CalibratedPasswordEncoder.class, "Calibrated BCrypt strength " + strength + " at " +
+                hashTime.toMillis() + " ms per hash for a budget of " + budget.toMillis() + " ms");
+        return new CalibratedPasswordEncoder(strength, hashTime);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public Duration getHashTime() {
+        return hashTime;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_STRENGTH.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private static Duration measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        String encoded = encoder.encode(CALIBRATION_PASSWORD);
+
+        long[] samples = new long[CALIBRATION_SAMPLES];
+        for (int i = 0; i < samples.length; i++) {
+            long started = System.nanoTime();
+            encoder.matches(CALIBRATION_PASSWORD, encoded);
+            samples[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(samples);
+        return Duration.ofNanos(samples[samples.length / 2]);
+    }
+}
@@ -36,9 +36,17 @@ public class CustomAuthUser implements UserDetails, CredentialsContainer {
 
     private final boolean enabled;
 
+    private final long securityVersion;
+
     public CustomAuthUser(Long id, String username, String password, boolean enabled, boolean accountNonExpired,
                 boolean credentialsNonExpired, boolean accountNonLocked,
                 Collection<? extends GrantedAuthority> authorities) {
+        this(id, username, password, enabled, accountNonExpired, credentialsNonExpired, accountNonLocked, authorities, 0);
+    }
+
+    public CustomAuthUser(Long id, String username, String password, boolean enabled, boolean accountNonExpired,
+                boolean credentialsNonExpired, boolean accountNonLocked,
+                Collection<? extends GrantedAuthority> authorities, long securityVersion) {
         Assert.isTrue(username != null && !username.isEmpty() && password != null,
                 "Cannot pass null or empty values to constructor");
         this.id = id;
@@ -49,6 +57,7 @@ public class CustomAuthUser implements UserDetails, CredentialsContainer {
         this.credentialsNonExpired = credentialsNonExpired;
         this.accountNonLocked = accountNonLocked;
         this.authorities = Collections.unmodifiableSet(sortAuthorities(authorities));
+        this.securityVersion = securityVersion;
     }
 
     private static SortedSet<GrantedAuthority> sortAuthorities(Collection<? extends GrantedAuthority> authorities) {
@@ -94,6 +103,8 @@ public class CustomAuthUser implements UserDetails, CredentialsContainer {
 
     public Long getId() { return this.id; }
 
+    public long getSecurityVersion() { return this.securityVersion; }
+
     @Override
     public Collection<GrantedAuthority> getAuthorities() {
         return this.authorities;
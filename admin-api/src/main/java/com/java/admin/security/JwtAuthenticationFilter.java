@@ -24,6 +24,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailServiceImpl userDetailsService;
+    private final UserSecurityVersions userSecurityVersions;
 
     @Override
     protected void doFilterInternal(
@@ -45,7 +46,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             userEmail = jwtService.extractUsername(jwt);
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+                // The user is only loaded for tokens without claims or whose security version has moved on
+                UserDetails userDetails = jwtService.extractPrincipal(jwt)
+                        .filter(principal -> userSecurityVersions.isCurrent(principal.getId(), principal.getSecurityVersion()))
+                        .map(UserDetails.class::cast)
+                        .orElseGet(() -> userDetailsService.loadUserByUsername(userEmail));
 
                 if (jwtService.isTokenValid(jwt, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
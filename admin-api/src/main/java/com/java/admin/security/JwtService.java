@@ -1,27 +1,67 @@
 package com.java.admin.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.java.admin.config.JwtPropertiesConfig;
 import com.java.admin.usecase.auth.IBlacklistedTokenService;
+import com.java.admin.util.TokenHasher;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+/**
+ * Signs and verifies access tokens. The signing key and parser are built once, and the claims of
+ * a verified token are kept for {@code jwt.claims-cache-ttl} under a digest of the token, so the
+ * several lookups made while authenticating one request verify the signature only once.
+ *
+ * <p>Tokens issued for a {@link CustomAuthUser} carry everything needed to rebuild it, stamped
+ * with the user's security version, so a request can be authenticated without loading the user.
+ */
 @Service
-@RequiredArgsConstructor
 public class JwtService {
 
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_SECURITY_VERSION = "sv";
+    private static final String CLAIM_AUTHORITIES = "authorities";
+    private static final String CLAIM_ENABLED = "enabled";
+    private static final String CLAIM_ACCOUNT_NON_EXPIRED = "accountNonExpired";
+    private static final String CLAIM_CREDENTIALS_NON_EXPIRED = "credentialsNonExpired";
+    private static final String CLAIM_ACCOUNT_NON_LOCKED = "accountNonLocked";
+
     private final IBlacklistedTokenService blacklistedTokenService;
     private final JwtPropertiesConfig jwtPropertiesConfig;
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> claimsCache;
+
+    public JwtService(IBlacklistedTokenService blacklistedTokenService, JwtPropertiesConfig jwtPropertiesConfig) {
+        this.blacklistedTokenService = blacklistedTokenService;
+        this.jwtPropertiesConfig = jwtPropertiesConfig;
+        this.signingKey = Keys.hmacShaKeyFor(jwtPropertiesConfig.getJwtSecret().getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.claimsCache = jwtPropertiesConfig.getClaimsCacheSize() <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(jwtPropertiesConfig.getClaimsCacheSize())
+                .expireAfter(new ClaimsExpiry(jwtPropertiesConfig.getClaimsCacheTtl().toNanos()))
+                .build();
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -33,7 +73,19 @@ public class JwtService {
     }
 
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof CustomAuthUser customAuthUser) {
+            claims.put(CLAIM_USER_ID, customAuthUser.getId());
+            claims.put(CLAIM_SECURITY_VERSION, customAuthUser.getSecurityVersion());
+            claims.put(CLAIM_AUTHORITIES, customAuthUser.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .toList());
+            claims.put(CLAIM_ENABLED, customAuthUser.isEnabled());
+            claims.put(CLAIM_ACCOUNT_NON_EXPIRED, customAuthUser.isAccountNonExpired());
+            claims.put(CLAIM_CREDENTIALS_NON_EXPIRED, customAuthUser.isCredentialsNonExpired());
+            claims.put(CLAIM_ACCOUNT_NON_LOCKED, customAuthUser.isAccountNonLocked());
+        }
+        return generateToken(claims, userDetails);
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
@@ -42,36 +94,91 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtPropertiesConfig.getJwtExpiration()))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Checks the token against the user. When both carry a security version they must match, so a
+     * token issued before a password or account status change is rejected.
+     */
     public boolean isTokenValid(String token, UserDetails userDetails) {
         if (blacklistedTokenService.isTokenBlacklisted(token)) {
             return false;
         }
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final Claims claims = extractAllClaims(token);
+        Long securityVersion = claims.get(CLAIM_SECURITY_VERSION, Long.class);
+        if (securityVersion != null && userDetails instanceof CustomAuthUser customAuthUser
+                && securityVersion != customAuthUser.getSecurityVersion()) {
+            return false;
+        }
+        return (claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date()));
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Rebuilds the principal from the claims of the token, or returns empty for a token issued
+     * before the claims were added. The password is not part of the token and is left empty.
+     */
+    public Optional<CustomAuthUser> extractPrincipal(String token) {
+        final Claims claims = extractAllClaims(token);
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        Long securityVersion = claims.get(CLAIM_SECURITY_VERSION, Long.class);
+        List<?> authorities = claims.get(CLAIM_AUTHORITIES, List.class);
+        if (userId == null || securityVersion == null || authorities == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new CustomAuthUser(
+                userId,
+                claims.getSubject(),
+                "",
+                Boolean.TRUE.equals(claims.get(CLAIM_ENABLED, Boolean.class)),
+                Boolean.TRUE.equals(claims.get(CLAIM_ACCOUNT_NON_EXPIRED, Boolean.class)),
+                Boolean.TRUE.equals(claims.get(CLAIM_CREDENTIALS_NON_EXPIRED, Boolean.class)),
+                Boolean.TRUE.equals(claims.get(CLAIM_ACCOUNT_NON_LOCKED, Boolean.class)),
+                authorities.stream()
+                        .map(authority -> new SimpleGrantedAuthority(authority.toString()))
+                        .toList(),
+                securityVersion));
     }
 
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
 
+    /**
+     * Returns the claims of the token, verifying its signature unless the same token was verified
+     * recently. A cached entry never outlives the token's expiration, so an expired token is parsed
+     * again and fails the same way it did before it was cached.
+     */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        if (claimsCache == null) {
+            return jwtParser.parseClaimsJws(token).getBody();
+        }
+        return claimsCache.get(TokenHasher.hash(token), key -> jwtParser.parseClaimsJws(token).getBody());
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = jwtPropertiesConfig.getJwtSecret().getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    // Keeps claims for the configured TTL, or until the token expires when that comes first
+    private record ClaimsExpiry(long ttlNanos) implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return ttlNanos;
+            }
+            long untilExpiration = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(ttlNanos, untilExpiration));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package com.java.admin.security;
+
+import com.java.admin.config.CustomLogger;
+import com.java.admin.config.JwtPropertiesConfig;
+import com.java.admin.dto.auth.response.UserSecurityVersionDto;
+import com.java.admin.event.UserChangedEvent;
+import com.java.admin.repository.user.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Current security version of every user whose version changed within the lifetime of an access
+ * token. A token carrying any other version was issued before that change; a user missing here
+ * has not changed since any token still in use was issued, so the version in the token is current.
+ * A newer version also means cached copies of the user are outdated, so it is published as a
+ * {@link UserChangedEvent}.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSecurityVersions {
+
+    private final UserRepository userRepository;
+    private final JwtPropertiesConfig jwtPropertiesConfig;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final Map<Long, UserSecurityVersionDto> versions = new ConcurrentHashMap<>();
+    private OffsetDateTime lastScanStartedAt;
+
+    @PostConstruct
+    public synchronized void load() {
+        OffsetDateTime scanStartedAt = OffsetDateTime.now();
+        List<UserSecurityVersionDto> changed = userRepository.findSecurityVersionsChangedSince(
+                scanStartedAt.minus(tokenLifetime()));
+        changed.forEach(this::advance);
+        lastScanStartedAt = scanStartedAt;
+
+        CustomLogger.logInfo(UserSecurityVersions.class, "Loaded security versions of " + changed.size() + " users");
+    }
+
+    public boolean isCurrent(Long userId, long securityVersion) {
+        UserSecurityVersionDto current = versions.get(userId);
+        return current == null || current.securityVersion() == securityVersion;
+    }
+
+    // Called by the instance that made the change, so it does not wait for the next refresh
+    public void record(UserSecurityVersionDto changed) {
+        if (advance(changed)) {
+            applicationEventPublisher.publishEvent(new UserChangedEvent(changed.userId(), changed.email()));
+        }
+    }
+
+    /**
+     * Picks up changes made by other instances since the previous scan, widened by the configured
+     * overlap because commits do not arrive in order, and forgets changes older than any live token.
+     */
+    @Scheduled(fixedDelayString = "${jwt.security-version-refresh-interval:PT5S}")
+    public synchronized void refresh() {
+        if (lastScanStartedAt == null) {
+            load();
+            return;
+        }
+
+        OffsetDateTime scanStartedAt = OffsetDateTime.now();
+        try {
+            OffsetDateTime since = lastScanStartedAt.minus(jwtPropertiesConfig.getSecurityVersionRefreshOverlap());
+            userRepository.findSecurityVersionsChangedSince(since).forEach(this::record);
+            lastScanStartedAt = scanStartedAt;
+
+            OffsetDateTime forgetBefore = scanStartedAt.minus(tokenLifetime());
+            versions.values().removeIf(version -> version.securityChangedAt().isBefore(forgetBefore));
+        } catch (RuntimeException e) {
+            CustomLogger.logError(UserSecurityVersions.class, "Security version refresh failed", e);
+        }
+    }
+
+    private boolean advance(UserSecurityVersionDto changed) {
+        UserSecurityVersionDto current = versions.merge(changed.userId(), changed,
+                (previous, next) -> next.securityVersion() > previous.securityVersion() ? next : previous);
+        return current == changed;
+    }
+
+    private Duration tokenLifetime() {
+        return Duration.ofMillis(jwtPropertiesConfig.getJwtExpiration());
+    }
+}
@@ -17,11 +17,13 @@ import com.java.admin.dto.account.response.ResetPasswordResponseDto;
 import com.java.admin.dto.account.response.ResetPasswordTokenResponseDto;
 import com.java.admin.dto.account.response.ValidateCodeAccountResponseDto;
 import com.java.admin.dto.account.response.VerifyAccountResponseDto;
+import com.java.admin.dto.auth.response.UserSecurityVersionDto;
 import com.java.admin.entity.user.UserEntity;
 import com.java.admin.exception.account.AccountException;
 import com.java.admin.mapper.account.AccountMapper;
 import com.java.admin.repository.user.UserRepository;
 import com.java.admin.security.AuthProvider;
+import com.java.admin.security.UserSecurityVersions;
 import com.java.admin.service.user.UserServiceImpl;
 import com.java.admin.usecase.account.IAccountService;
 import com.java.admin.util.GenerateRandomDataUtil;
@@ -44,6 +46,7 @@ public class AccountServiceImpl implements IAccountService {
     private final AccountMapper accountMapper;
     private final ServicePropertiesConfig servicePropertiesConfig;
     private final PasswordEncoder passwordEncoder;
+    private final UserSecurityVersions userSecurityVersions;
 
     @Override
     public CreateAccountResponseDto createAccount(CreateAccountRequestDto createAccountRequestDto) {
@@ -224,7 +227,9 @@ public class AccountServiceImpl implements IAccountService {
         userEntity.setVerificationTokenExpiry(null);
         userEntity.setVerificationCode(null);
         userEntity.setMaxVerificationCodeAttempts(0);
+        userEntity.changeSecurityVersion();
         userRepository.save(userEntity);
+        recordSecurityVersion(userEntity);
 
         return new ValidateCodeAccountResponseDto(
                 "User account with email: " + validateCodeAccountRequestDto.email() + " has been successfully validated and enabled."
@@ -389,14 +394,23 @@ public class AccountServiceImpl implements IAccountService {
         userEntity.setResetPasswordTokenExpiry(null);
         userEntity.setResetPasswordCode(null);
         userEntity.setMaxResetPasswordAttempts(0);
+        userEntity.changeSecurityVersion();
         userRepository.save(userEntity);
-
+        recordSecurityVersion(userEntity);
 
         return new ChangePasswordResponseDto(
                 "Password changed successfully for user account with email: " + changePasswordRequestDto.email()
         );
     }
 
+    private void recordSecurityVersion(UserEntity userEntity) {
+        userSecurityVersions.record(new UserSecurityVersionDto(
+                userEntity.getId(),
+                userEntity.getEmail(),
+                userEntity.getSecurityVersion(),
+                userEntity.getSecurityChangedAt()));
+    }
+
     private void sendVerificationMail(String verificationUrl, UserEntity finalUserEntity) {
         Map<String, Object> vars = new HashMap<>();
         vars.put("userName", finalUserEntity.getFirstName());
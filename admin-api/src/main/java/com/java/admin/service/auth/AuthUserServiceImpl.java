@@ -20,6 +20,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
 @Service
 @RequiredArgsConstructor
 public class AuthUserServiceImpl implements IAuthUserService {
@@ -77,7 +80,8 @@ public class AuthUserServiceImpl implements IAuthUserService {
 
         if (logoutRequestDto.token() != null && logoutRequestDto.token().startsWith("Bearer ")) {
             String jwt = logoutRequestDto.token().substring(7);
-            blacklistedTokenService.blacklistToken(jwt);
+            blacklistedTokenService.blacklistToken(jwt,
+                    OffsetDateTime.ofInstant(jwtService.extractExpiration(jwt).toInstant(), ZoneOffset.UTC));
 
             String userEmail = jwtService.extractUsername(jwt);
             refreshTokenService.deleteByUserEmail(userEmail);
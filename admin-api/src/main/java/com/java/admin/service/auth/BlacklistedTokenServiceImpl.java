@@ -1,30 +1,118 @@
 package com.java.admin.service.auth;
 
+import com.java.admin.config.BlacklistPropertiesConfig;
+import com.java.admin.config.CustomLogger;
 import com.java.admin.entity.auth.BlacklistedTokenEntity;
 import com.java.admin.repository.auth.BlacklistedTokenRepository;
 import com.java.admin.usecase.auth.IBlacklistedTokenService;
+import com.java.admin.util.TokenHasher;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Keeps the digests of blacklisted tokens in memory, so checking a token on every request does
+ * not query the database. The table is the durable copy: it is loaded at startup and polled for
+ * tokens blacklisted by other instances. An entry is only needed until the token's own expiry,
+ * after which the token is rejected anyway and the entry is purged.
+ */
 @Service
 @RequiredArgsConstructor
 public class BlacklistedTokenServiceImpl implements IBlacklistedTokenService {
 
     private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final BlacklistPropertiesConfig blacklistPropertiesConfig;
 
-    public void blacklistToken(String token) {
-        BlacklistedTokenEntity blacklistedTokenEntity = new BlacklistedTokenEntity();
-        blacklistedTokenEntity.setToken(token);
-        blacklistedTokenEntity.setExpiryAt(OffsetDateTime.now());
+    private final Map<String, OffsetDateTime> expiryByDigest = new ConcurrentHashMap<>();
+    private OffsetDateTime lastScanStartedAt;
+
+    @PostConstruct
+    public synchronized void load() {
+        OffsetDateTime scanStartedAt = OffsetDateTime.now();
+        List<BlacklistedTokenEntity> tokens = blacklistedTokenRepository.findByExpiryAtAfter(scanStartedAt);
+        tokens.forEach(this::remember);
+        lastScanStartedAt = scanStartedAt;
+
+        CustomLogger.logInfo(BlacklistedTokenServiceImpl.class, "Loaded " + tokens.size() + " blacklisted tokens");
+    }
 
-        blacklistedTokenRepository.save(blacklistedTokenEntity);
+    @Override
+    public void blacklistToken(String token, OffsetDateTime expiresAt) {
+        if (!expiresAt.isAfter(OffsetDateTime.now())) {
+            return;
+        }
+
+        String tokenDigest = TokenHasher.hash(token);
+        if (expiryByDigest.putIfAbsent(tokenDigest, expiresAt) != null) {
+            return;
+        }
+
+        BlacklistedTokenEntity blacklistedTokenEntity = new BlacklistedTokenEntity();
+        blacklistedTokenEntity.setTokenDigest(tokenDigest);
+        blacklistedTokenEntity.setExpiryAt(expiresAt);
+        try {
+            blacklistedTokenRepository.save(blacklistedTokenEntity);
+        } catch (DataIntegrityViolationException e) {
+            // Already blacklisted through another instance
+        }
     }
 
+    @Override
     public boolean isTokenBlacklisted(String token) {
-        return blacklistedTokenRepository.existsByToken(token);
+        return expiryByDigest.containsKey(TokenHasher.hash(token));
     }
 
-    public void cleanupExpiredTokens() { blacklistedTokenRepository.deleteByExpiryAtBefore(OffsetDateTime.now());}
-}
\ No newline at end of file
+    /**
+     * Adds tokens blacklisted since the previous scan. The window is widened by the configured
+     * overlap because commits do not arrive in order.
+     */
+    @Scheduled(fixedDelayString = "${blacklist.refresh-interval:PT5S}")
+    public synchronized void refresh() {
+        if (lastScanStartedAt == null) {
+            load();
+            return;
+        }
+
+        OffsetDateTime scanStartedAt = OffsetDateTime.now();
+        try {
+            OffsetDateTime since = lastScanStartedAt.minus(blacklistPropertiesConfig.getRefreshOverlap());
+            blacklistedTokenRepository.findByCreatedAtGreaterThanEqualAndExpiryAtAfter(since, scanStartedAt)
+                    .forEach(this::remember);
+            lastScanStartedAt = scanStartedAt;
+        } catch (RuntimeException e) {
+            CustomLogger.logError(BlacklistedTokenServiceImpl.class, "Blacklisted token refresh failed", e);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${blacklist.purge-interval:PT15M}")
+    public void cleanupExpiredTokens() {
+        OffsetDateTime now = OffsetDateTime.now();
+        expiryByDigest.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        try {
+            int batchSize = blacklistPropertiesConfig.getPurgeBatchSize();
+            long deleted = 0;
+            int batch;
+            do {
+                batch = blacklistedTokenRepository.deleteExpiredBatch(now, batchSize);
+                deleted += batch;
+            } while (batch == batchSize);
+
+            CustomLogger.logInfo(BlacklistedTokenServiceImpl.class, "Purged " + deleted + " expired blacklisted tokens");
+        } catch (RuntimeException e) {
+            CustomLogger.logError(BlacklistedTokenServiceImpl.class, "Blacklisted token purge failed", e);
+        }
+    }
+
+    private void remember(BlacklistedTokenEntity blacklistedTokenEntity) {
+        expiryByDigest.put(blacklistedTokenEntity.getTokenDigest(), blacklistedTokenEntity.getExpiryAt());
+    }
+}
@@ -1,13 +1,18 @@
 package com.java.admin.service.auth;
 
+import com.java.admin.config.CacheConfig;
 import com.java.admin.config.CustomLogger;
+import com.java.admin.dto.auth.response.UserAuthDto;
 import com.java.admin.entity.user.UserEntity;
 import com.java.admin.repository.user.UserRepository;
 import com.java.admin.security.CustomAuthUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -15,34 +20,89 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Loads login details by email through the user details cache. The cache holds an immutable copy
+ * and a new CustomAuthUser is built on every call, since Spring Security erases the password of
+ * the principal it authenticated.
+ *
+ * <p>After a login whose stored hash is not at the current BCrypt strength, the provider hands the
+ * password re-encoded at that strength to {@link #updatePassword}.
+ */
 @Service
 @RequiredArgsConstructor
-public class UserDetailServiceImpl implements UserDetailsService {
+public class UserDetailServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final CacheManager cacheManager;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
-        UserEntity userEntity = userRepository.findUserEntityByEmail(username).orElse(null);
-        if (userEntity != null) {
-            GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_USER");
-            List<GrantedAuthority> authorities = new ArrayList<>();
-            authorities.add(authority);
-
-            // Use the Email instead of the username
-            return new CustomAuthUser(
-                    userEntity.getId(),
-                    userEntity.getEmail(),
-                    userEntity.getPassword(),
-                    userEntity.isEnabled(),
-                    userEntity.isAccountNonExpired(),
-                    userEntity.isCredentialsNonExpired(),
-                    userEntity.isAccountNonLocked(),
-                    authorities);
-        } else {
-            CustomLogger.logWarning(UserDetailServiceImpl.class, "User not found with email: " + username);
-            throw new UsernameNotFoundException("User not found with email: " + username);
+        Cache cache = cacheManager.getCache(CacheConfig.USER_DETAILS_CACHE);
+        UserAuthDto userAuth = cache == null ? null : cache.get(username, UserAuthDto.class);
+        if (userAuth == null) {
+            userAuth = toUserAuth(findUser(username));
+            if (cache != null) {
+                cache.put(username, userAuth);
+            }
         }
+
+        return toCustomAuthUser(userAuth);
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+
+        UserEntity userEntity = findUser(user.getUsername());
+        userEntity.setPassword(newPassword);
+        userRepository.save(userEntity);
+        CustomLogger.logInfo(UserDetailServiceImpl.class, "Re-encoded password at the current strength for user ID: " +
+                userEntity.getId());
+
+        UserAuthDto userAuth = toUserAuth(userEntity);
+        Cache cache = cacheManager.getCache(CacheConfig.USER_DETAILS_CACHE);
+        if (cache != null) {
+            cache.put(userEntity.getEmail(), userAuth);
+        }
+        return toCustomAuthUser(userAuth);
+    }
+
+    private UserEntity findUser(String email) {
+        UserEntity userEntity = userRepository.findUserEntityByEmail(email).orElse(null);
+        if (userEntity == null) {
+            CustomLogger.logWarning(UserDetailServiceImpl.class, "User not found with email: " + email);
+            throw new UsernameNotFoundException("User not found with email: " + email);
+        }
+        return userEntity;
+    }
+
+    private static UserAuthDto toUserAuth(UserEntity userEntity) {
+        return new UserAuthDto(
+                userEntity.getId(),
+                userEntity.getEmail(),
+                userEntity.getPassword(),
+                userEntity.isEnabled(),
+                userEntity.isAccountNonExpired(),
+                userEntity.isCredentialsNonExpired(),
+                userEntity.isAccountNonLocked(),
+                userEntity.getSecurityVersion());
+    }
+
+    private static CustomAuthUser toCustomAuthUser(UserAuthDto userAuth) {
+        GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_USER");
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(authority);
+
+        // Use the Email instead of the username
+        return new CustomAuthUser(
+                userAuth.id(),
+                userAuth.email(),
+                userAuth.password(),
+                userAuth.enabled(),
+                userAuth.accountNonExpired(),
+                userAuth.credentialsNonExpired(),
+                userAuth.accountNonLocked(),
+                authorities,
+                userAuth.securityVersion());
     }
 }
@@ -0,0 +1,202 @@
+package com.java.admin.service.url;
+
+import com.java.admin.config.CustomLogger;
+import com.java.admin.dto.ApiError;
+import com.java.admin.dto.url.request.CreateUrlRequestDto;
+import com.java.admin.dto.url.response.BulkCreateUrlItemResponseDto;
+import com.java.admin.entity.url.UrlEntity;
+import com.java.admin.entity.user.UserEntity;
+import com.java.admin.exception.url.UrlException;
+import com.java.admin.mapper.url.UrlMapper;
+import com.java.admin.repository.url.UrlIdAllocator;
+import com.java.admin.repository.url.UrlRepository;
+import com.java.admin.repository.user.UserRepository;
+import com.java.admin.util.OriginalUrlHasher;
+import com.java.admin.util.ShortCodeCodec;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.java.admin.constant.ApiUrlEndpoints.getUrlCodeFieldsValidation;
+
+/**
+ * Writes one chunk of URL creation requests for a user. Valid items are inserted in one
+ * transaction as a single batched INSERT; ids and short codes come from the same allocator and
+ * codec as single creation, so nothing has to be read back. When the chunk fails, its items are
+ * retried one per transaction so only the offending items are reported as failed, and a short code
+ * already taken in url_code gets a fresh id. Duplicates are checked against the database, so
+ * chunks written earlier by the same caller are covered.
+ */
+@Component
+@RequiredArgsConstructor
+public class UrlBatchWriter {
+
+    private final UrlRepository urlRepository;
+    private final UrlIdAllocator urlIdAllocator;
+    private final UserRepository userRepository;
+    private final UrlMapper urlMapper;
+    private final ShortCodeCodec shortCodeCodec;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final UrlSearchIndex urlSearchIndex;
+
+    // A null request stands for an item that could not be parsed
+    public record Item(long index, CreateUrlRequestDto request) {
+    }
+
+    private record PendingUrl(long index, CreateUrlRequestDto request, long id, String shortUrl) {
+    }
+
+    /**
+     * Creates the chunk and returns one result per item in index order. The callback receives
+     * the results inside the transaction that commits the chunk, so progress recorded there is
+     * committed together with the URLs it describes.
+     */
+    public List<BulkCreateUrlItemResponseDto> write(List<Item> chunk, Long userId,
+                                                    Consumer<List<BulkCreateUrlItemResponseDto>> onCommit) {
+
+        List<BulkCreateUrlItemResponseDto> results = new ArrayList<>(chunk.size());
+        List<Item> valid = new ArrayList<>(chunk.size());
+        for (Item item : chunk) {
+            List<ApiError> errors = validate(item.request());
+            if (errors.isEmpty()) {
+                valid.add(item);
+            } else {
+                results.add(failure(item.index(), errors));
+            }
+        }
+
+        List<String> urlHashes = valid.stream().map(item -> OriginalUrlHasher.hash(item.request().url())).toList();
+        Set<String> existingUrlHashes = valid.isEmpty() ? Set.of() : new HashSet<>(
+                urlRepository.findUrlHashesByUserIdAndUrlHashIn(userId, urlHashes));
+        Set<String> chunkUrlHashes = new HashSet<>();
+
+        List<PendingUrl> pending = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            Item item = valid.get(i);
+            String urlHash = urlHashes.get(i);
+            if (existingUrlHashes.contains(urlHash) || !chunkUrlHashes.add(urlHash)) {
+                results.add(failure(item.index(), List.of(new ApiError(
+                        UrlException.URL_ALREADY_EXISTS_CODE,
+                        UrlException.URL_ALREADY_EXISTS_MESSAGE,
+                        UrlException.URL_ALREADY_EXISTS_CAUSE))));
+                continue;
+            }
+
+            long id = urlIdAllocator.nextId();
+            pending.add(new PendingUrl(item.index(), item.request(), id, shortCodeCodec.encode(id)));
+        }
+
+        try {
+            List<UrlEntity> saved = new ArrayList<>(pending.size());
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!pending.isEmpty()) {
+                    UserEntity userEntity = userRepository.getReferenceById(userId);
+                    saved.addAll(urlRepository.saveAllAndFlush(
+                            pending.stream().map(url -> toEntity(url, userEntity)).toList()));
+                    for (int i = 0; i < pending.size(); i++) {
+                        results.add(success(pending.get(i).index(), saved.get(i)));
+                    }
+                }
+                onCommit.accept(sorted(results));
+            });
+            saved.forEach(urlEntity -> urlSearchIndex.put(userId, urlEntity));
+            return sorted(results);
+        } catch (DataAccessException e) {
+            CustomLogger.logError(UrlBatchWriter.class, "Batch insert of " + pending.size() +
+                    " URLs failed, retrying one by one for user ID: " + userId, e);
+            results.removeIf(result -> Boolean.TRUE.equals(result.success()));
+        }
+
+        for (PendingUrl url : pending) {
+            results.add(writeOne(url, userId));
+        }
+
+        List<BulkCreateUrlItemResponseDto> sortedResults = sorted(results);
+        transactionTemplate.executeWithoutResult(status -> onCommit.accept(sortedResults));
+        return sortedResults;
+    }
+
+    // A short code already taken by a legacy code or an alias is retried with a fresh id
+    private BulkCreateUrlItemResponseDto writeOne(PendingUrl url, Long userId) {
+        PendingUrl attempt = url;
+        for (int attempts = 1; ; attempts++) {
+            PendingUrl current = attempt;
+            try {
+                UrlEntity saved = transactionTemplate.execute(status ->
+                        urlRepository.saveAndFlush(toEntity(current, userRepository.getReferenceById(userId))));
+                urlSearchIndex.put(userId, saved);
+                return success(url.index(), saved);
+            } catch (DataAccessException itemException) {
+                String customAlias = current.request().customAlias();
+                if (UrlCodeConflicts.isShortCodeConflict(itemException, current.shortUrl(), customAlias)
+                        && attempts < UrlCodeConflicts.MAX_SHORT_CODE_ATTEMPTS) {
+                    CustomLogger.logWarning(UrlBatchWriter.class, "Short code " + current.shortUrl() +
+                            " is already taken, retrying with a new ID");
+                    long id = urlIdAllocator.nextId();
+                    attempt = new PendingUrl(url.index(), url.request(), id, shortCodeCodec.encode(id));
+                    continue;
+                }
+                if (UrlCodeConflicts.isAliasConflict(itemException, current.shortUrl(), customAlias)) {
+                    return failure(url.index(), List.of(new ApiError(
+                            UrlException.URL_ALIAS_ALREADY_EXISTS_CODE,
+                            UrlException.URL_ALIAS_ALREADY_EXISTS_MESSAGE,
+                            UrlException.URL_ALIAS_ALREADY_EXISTS_CAUSE)));
+                }
+                CustomLogger.logError(UrlBatchWriter.class, "Failed to create URL at index " + url.index() +
+                        " for user ID: " + userId, itemException);
+                return failure(url.index(), List.of(new ApiError(
+                        UrlException.URL_CREATE_FAILED_CODE,
+                        UrlException.URL_CREATE_FAILED_MESSAGE,
+                        UrlException.URL_CREATE_FAILED_CAUSE)));
+            }
+        }
+    }
+
+    private List<ApiError> validate(CreateUrlRequestDto request) {
+        if (request == null) {
+            return List.of(new ApiError(
+                    UrlException.URL_INVALID_ITEM_CODE,
+                    UrlException.URL_INVALID_ITEM_MESSAGE,
+                    UrlException.URL_INVALID_ITEM_CAUSE));
+        }
+
+        // Same shape as the errors of a rejected single creation request
+        return validator.validate(request).stream()
+                .map(violation -> {
+                    String field = violation.getPropertyPath().toString();
+                    return new ApiError(getUrlCodeFieldsValidation(field), field, violation.getMessage());
+                })
+                .toList();
+    }
+
+    // A fresh entity per attempt, a failed batch may have left the previous one marked as persisted
+    private UrlEntity toEntity(PendingUrl url, UserEntity userEntity) {
+        UrlEntity urlEntity = urlMapper.toEntity(url.request());
+        urlEntity.setId(url.id());
+        urlEntity.setShortUrl(url.shortUrl());
+        urlEntity.setUser(userEntity);
+        return urlEntity;
+    }
+
+    private static List<BulkCreateUrlItemResponseDto> sorted(List<BulkCreateUrlItemResponseDto> results) {
+        return results.stream().sorted(Comparator.comparing(BulkCreateUrlItemResponseDto::index)).toList();
+    }
+
+    private BulkCreateUrlItemResponseDto success(long index, UrlEntity urlEntity) {
+        return new BulkCreateUrlItemResponseDto(index, true, urlMapper.toResponseDto(urlEntity), List.of());
+    }
+
+    private static BulkCreateUrlItemResponseDto failure(long index, List<ApiError> errors) {
+        return new BulkCreateUrlItemResponseDto(index, false, null, errors);
+    }
+}
@@ -0,0 +1,60 @@
+package com.java.admin.service.url;
+
+import com.java.admin.config.BulkUrlPropertiesConfig;
+import com.java.admin.config.CustomLogger;
+import com.java.admin.dto.url.request.CreateUrlRequestDto;
+import com.java.admin.dto.url.response.BulkCreateUrlItemResponseDto;
+import com.java.admin.dto.url.response.BulkCreateUrlResponseDto;
+import com.java.admin.usecase.url.IUrlBulkService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Creates many URLs for one user. Items are read lazily and handed to {@link UrlBatchWriter}
+ * in chunks, so a chunk is committed before the next one is read.
+ */
+@Service
+@RequiredArgsConstructor
+public class UrlBulkServiceImpl implements IUrlBulkService {
+
+    private final UrlBatchWriter urlBatchWriter;
+    private final BulkUrlPropertiesConfig bulkUrlPropertiesConfig;
+
+    @Override
+    public BulkCreateUrlResponseDto createUrls(Iterator<CreateUrlRequestDto> createUrlRequests, Long userId) {
+
+        CustomLogger.logInfo(UrlBulkServiceImpl.class, "Creating URLs in bulk for user ID: " + userId);
+
+        int maxItems = bulkUrlPropertiesConfig.getMaxItems();
+        int chunkSize = bulkUrlPropertiesConfig.getChunkSize();
+
+        List<BulkCreateUrlItemResponseDto> results = new ArrayList<>();
+        List<UrlBatchWriter.Item> chunk = new ArrayList<>(chunkSize);
+
+        int received = 0;
+        while (received < maxItems && createUrlRequests.hasNext()) {
+            chunk.add(new UrlBatchWriter.Item(received++, createUrlRequests.next()));
+            if (chunk.size() == chunkSize) {
+                results.addAll(urlBatchWriter.write(chunk, userId, chunkResults -> { }));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(urlBatchWriter.write(chunk, userId, chunkResults -> { }));
+        }
+
+        // Items past the limit are not read, the caller can send them in another request
+        boolean truncated = createUrlRequests.hasNext();
+
+        int created = (int) results.stream().filter(BulkCreateUrlItemResponseDto::success).count();
+
+        CustomLogger.logInfo(UrlBulkServiceImpl.class, "Created " + created + " of " + received +
+                " URLs in bulk for user ID: " + userId);
+
+        return new BulkCreateUrlResponseDto(received, created, received - created, truncated, results);
+    }
+}
@@ -0,0 +1,45 @@
+package com.java.admin.service.url;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Tells apart the ways an insert into url_table can collide on the url_code primary key, which the
+ * url_code trigger fills from the short code and the custom alias. Codes from the codec share the
+ * base62 namespace with legacy random codes and aliases, so a new short code can already be taken;
+ * that is retried with a fresh id, while a taken alias is reported to the user.
+ */
+final class UrlCodeConflicts {
+
+    static final String URL_CODE_PRIMARY_KEY = "pk_url_code";
+
+    // Ids are spread over the whole code space, so a second collision in a row is already unlikely
+    static final int MAX_SHORT_CODE_ATTEMPTS = 5;
+
+    private UrlCodeConflicts() {
+        // Static helpers only
+    }
+
+    static boolean violates(DataAccessException e, String constraint) {
+        if (!(e instanceof DataIntegrityViolationException)) {
+            return false;
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(constraint);
+    }
+
+    /**
+     * True when the generated short code is the one already taken. PostgreSQL names the key in
+     * the detail, "Key (code)=(...) already exists"; without an alias only the short code is left.
+     */
+    static boolean isShortCodeConflict(DataAccessException e, String shortUrl, String customAlias) {
+        if (!violates(e, URL_CODE_PRIMARY_KEY)) {
+            return false;
+        }
+        return customAlias == null || e.getMostSpecificCause().getMessage().contains("=(" + shortUrl + ")");
+    }
+
+    static boolean isAliasConflict(DataAccessException e, String shortUrl, String customAlias) {
+        return violates(e, URL_CODE_PRIMARY_KEY) && !isShortCodeConflict(e, shortUrl, customAlias);
+    }
+}
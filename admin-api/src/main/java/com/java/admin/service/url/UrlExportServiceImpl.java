@@ -0,0 +1,79 @@
+package com.java.admin.service.url;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.java.admin.config.CustomLogger;
+import com.java.admin.dto.url.response.UrlExportRowDto;
+import com.java.admin.entity.url.UrlFileFormat;
+import com.java.admin.repository.url.UrlRepository;
+import com.java.admin.usecase.url.IUrlExportService;
+import com.java.admin.util.CsvWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes all URLs of a user to the response as they are read from a database cursor, so an
+ * export uses the same memory for ten URLs as for ten million. The read only transaction keeps
+ * the cursor open until the last row has been written.
+ */
+@Service
+@RequiredArgsConstructor
+public class UrlExportServiceImpl implements IUrlExportService {
+
+    private static final List<String> CSV_HEADER = List.of(
+            "id", "shortUrl", "url", "customAlias", "description",
+            "validSince", "validUntil", "isActive", "clickCount", "createdAt");
+
+    private final UrlRepository urlRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUrls(UrlFileFormat format, Long userId, OutputStream output) throws IOException {
+
+        CustomLogger.logInfo(UrlExportServiceImpl.class, "Exporting URLs as " + format + " for user ID: " + userId);
+
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        try (Stream<UrlExportRowDto> urls = urlRepository.streamExportRowsByUserId(userId)) {
+            Iterator<UrlExportRowDto> iterator = urls.iterator();
+            if (format == UrlFileFormat.CSV) {
+                CsvWriter csvWriter = new CsvWriter(writer);
+                csvWriter.writeRecord(CSV_HEADER);
+                for (; iterator.hasNext(); rows++) {
+                    UrlExportRowDto url = iterator.next();
+                    csvWriter.writeRecord(Arrays.asList(
+                            url.id(), url.shortUrl(), url.url(), url.customAlias(), url.description(),
+                            url.validSince(), url.validUntil(), url.isActive(), url.clickCount(), url.createdAt()));
+                }
+            } else {
+                ObjectWriter objectWriter = objectMapper.writerFor(UrlExportRowDto.class);
+                for (; iterator.hasNext(); rows++) {
+                    writer.write(objectWriter.writeValueAsString(iterator.next()));
+                    writer.write('\n');
+                }
+            }
+            writer.flush();
+        } catch (IOException | UncheckedIOException e) {
+            // Usually the client went away; the status line is already sent, so only the log knows
+            CustomLogger.logError(UrlExportServiceImpl.class, "URL export for user ID: " + userId +
+                    " stopped after " + rows + " rows", e);
+            throw e;
+        }
+
+        CustomLogger.logInfo(UrlExportServiceImpl.class, "Exported " + rows + " URLs for user ID: " + userId);
+    }
+}
@@ -0,0 +1,244 @@
+package com.java.admin.service.url;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.admin.config.BulkUrlPropertiesConfig;
+import com.java.admin.config.CustomLogger;
+import com.java.admin.dto.ApiError;
+import com.java.admin.dto.url.request.CreateUrlRequestDto;
+import com.java.admin.dto.url.response.BulkCreateUrlItemResponseDto;
+import com.java.admin.dto.url.response.UrlImportJobResponseDto;
+import com.java.admin.entity.url.UrlFileFormat;
+import com.java.admin.entity.url.UrlImportJobEntity;
+import com.java.admin.entity.url.UrlImportStatus;
+import com.java.admin.exception.url.UrlException;
+import com.java.admin.mapper.url.UrlMapper;
+import com.java.admin.repository.url.UrlImportJobRepository;
+import com.java.admin.usecase.url.IUrlImportService;
+import com.java.admin.util.CsvReader;
+import com.java.admin.util.NdjsonReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+/**
+ * Imports URLs from an uploaded CSV or NDJSON file. The upload is parsed while it is read and
+ * written through {@link UrlBatchWriter} one chunk at a time, so memory stays bounded by the
+ * chunk size whatever the file size. Each chunk commits the job checkpoint with its URLs; when
+ * an upload breaks, sending the same file again for the job skips the rows already handled.
+ */
+@Service
+@RequiredArgsConstructor
+public class UrlImportServiceImpl implements IUrlImportService {
+
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    // CSV header names, matched case insensitively against the fields of CreateUrlRequestDto
+    private static final String CSV_URL = "url";
+    private static final String CSV_CUSTOM_ALIAS = "customalias";
+    private static final String CSV_DESCRIPTION = "description";
+    private static final String CSV_VALID_SINCE = "validsince";
+    private static final String CSV_VALID_UNTIL = "validuntil";
+    private static final String CSV_IS_ACTIVE = "isactive";
+
+    private final UrlImportJobRepository urlImportJobRepository;
+    private final UrlBatchWriter urlBatchWriter;
+    private final UrlMapper urlMapper;
+    private final ObjectMapper objectMapper;
+    private final BulkUrlPropertiesConfig bulkUrlPropertiesConfig;
+
+    @Override
+    public UrlImportJobResponseDto createImportJob(UrlFileFormat format, Long userId) {
+
+        CustomLogger.logInfo(UrlImportServiceImpl.class, "Creating " + format + " URL import for user ID: " + userId);
+
+        UrlImportJobEntity urlImportJobEntity = new UrlImportJobEntity();
+        urlImportJobEntity.setUserId(userId);
+        urlImportJobEntity.setFormat(format);
+        urlImportJobEntity.setStatus(UrlImportStatus.PENDING);
+
+        return urlMapper.toImportJobResponseDto(urlImportJobRepository.save(urlImportJobEntity));
+    }
+
+    @Override
+    public UrlImportJobResponseDto runImport(Long jobId, UrlFileFormat format, InputStream upload, Long userId) {
+
+        UrlImportJobEntity urlImportJobEntity = findJob(jobId, userId);
+        if (urlImportJobEntity.getFormat() != format) {
+            throw invalidUpload();
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        if (urlImportJobRepository.claimForResume(jobId, userId, now, now.minus(bulkUrlPropertiesConfig.getImportStaleAfter())) == 0) {
+            throw new UrlException(
+                    UrlException.URL_IMPORT_NOT_RESUMABLE_CODE,
+                    UrlException.URL_IMPORT_NOT_RESUMABLE_MESSAGE,
+                    UrlException.URL_IMPORT_NOT_RESUMABLE_CAUSE);
+        }
+
+        long checkpointRow = urlImportJobEntity.getCheckpointRow();
+        CustomLogger.logInfo(UrlImportServiceImpl.class, "Running URL import " + jobId + " for user ID: " + userId +
+                " from row " + checkpointRow);
+
+        long row = 0;
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(upload, StandardCharsets.UTF_8));
+            Iterator<CreateUrlRequestDto> requests = format == UrlFileFormat.CSV
+                    ? csvRequests(reader)
+                    : new NdjsonReader<>(reader, objectMapper.readerFor(CreateUrlRequestDto.class),
+                            bulkUrlPropertiesConfig.getImportMaxRecordLength());
+
+            for (; row < checkpointRow && requests.hasNext(); row++) {
+                requests.next();
+            }
+            if (row < checkpointRow) {
+                throw invalidUpload();
+            }
+
+            int chunkSize = bulkUrlPropertiesConfig.getChunkSize();
+            List<UrlBatchWriter.Item> chunk = new ArrayList<>(chunkSize);
+            while (requests.hasNext()) {
+                chunk.add(new UrlBatchWriter.Item(row++, requests.next()));
+                if (chunk.size() == chunkSize) {
+                    writeChunk(jobId, chunk, row, userId);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(jobId, chunk, row, userId);
+            }
+
+            urlImportJobRepository.finish(jobId, UrlImportStatus.COMPLETED, null, OffsetDateTime.now());
+            CustomLogger.logInfo(UrlImportServiceImpl.class, "Completed URL import " + jobId + " at row " + row);
+        } catch (UncheckedIOException | DataAccessException e) {
+            CustomLogger.logError(UrlImportServiceImpl.class, "URL import " + jobId + " stopped at row " + row, e);
+            urlImportJobRepository.finish(jobId, UrlImportStatus.FAILED,
+                    truncate("Stopped at row " + (row + 1) + ": " + e.getMessage()), OffsetDateTime.now());
+        } catch (RuntimeException e) {
+            urlImportJobRepository.finish(jobId, UrlImportStatus.FAILED, truncate(e.getMessage()), OffsetDateTime.now());
+            throw e;
+        }
+
+        return urlMapper.toImportJobResponseDto(findJob(jobId, userId));
+    }
+
+    @Override
+    public UrlImportJobResponseDto getImportJob(Long jobId, Long userId) {
+        return urlMapper.toImportJobResponseDto(findJob(jobId, userId));
+    }
+
+    private void writeChunk(Long jobId, List<UrlBatchWriter.Item> chunk, long checkpointRow, Long userId) {
+        urlBatchWriter.write(chunk, userId, results -> {
+            long created = results.stream().filter(BulkCreateUrlItemResponseDto::success).count();
+            String lastError = results.stream()
+                    .filter(result -> !result.success())
+                    .reduce((first, second) -> second)
+                    .map(result -> truncate("Row " + (result.index() + 1) + ": " + describe(result.errors())))
+                    .orElse(null);
+
+            urlImportJobRepository.recordProgress(jobId, checkpointRow, created, results.size() - created,
+                    lastError, OffsetDateTime.now());
+        });
+    }
+
+    /**
+     * Maps CSV records to requests using the header row. A record whose values cannot be converted
+     * becomes null, which the writer reports as an invalid item for that row.
+     */
+    private Iterator<CreateUrlRequestDto> csvRequests(BufferedReader reader) {
+        CsvReader records = new CsvReader(reader, bulkUrlPropertiesConfig.getImportMaxRecordLength());
+        if (!records.hasNext()) {
+            return Collections.emptyIterator();
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = records.next();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey(CSV_URL)) {
+            throw invalidUpload();
+        }
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            @Override
+            public CreateUrlRequestDto next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<String> record = records.next();
+                try {
+                    String validSince = value(record, columns, CSV_VALID_SINCE);
+                    String validUntil = value(record, columns, CSV_VALID_UNTIL);
+                    String isActive = value(record, columns, CSV_IS_ACTIVE);
+                    return new CreateUrlRequestDto(
+                            value(record, columns, CSV_CUSTOM_ALIAS),
+                            value(record, columns, CSV_URL),
+                            value(record, columns, CSV_DESCRIPTION),
+                            validSince == null ? OffsetDateTime.now() : OffsetDateTime.parse(validSince),
+                            validUntil == null ? null : OffsetDateTime.parse(validUntil),
+                            isActive == null || Boolean.parseBoolean(isActive));
+                } catch (DateTimeParseException e) {
+                    return null;
+                }
+            }
+        };
+    }
+
+    private static String value(List<String> record, Map<String, Integer> columns, String name) {
+        Integer column = columns.get(name);
+        if (column == null || column >= record.size() || record.get(column).isBlank()) {
+            return null;
+        }
+        return record.get(column).trim();
+    }
+
+    private UrlImportJobEntity findJob(Long jobId, Long userId) {
+        return urlImportJobRepository.findByIdAndUserId(jobId, userId)
+                .orElseThrow(() -> new UrlException(
+                        UrlException.URL_IMPORT_NOT_FOUND_CODE,
+                        UrlException.URL_IMPORT_NOT_FOUND_MESSAGE,
+                        UrlException.URL_IMPORT_NOT_FOUND_CAUSE));
+    }
+
+    private static UrlException invalidUpload() {
+        return new UrlException(
+                UrlException.URL_IMPORT_INVALID_UPLOAD_CODE,
+                UrlException.URL_IMPORT_INVALID_UPLOAD_MESSAGE,
+                UrlException.URL_IMPORT_INVALID_UPLOAD_CAUSE);
+    }
+
+    private static String describe(List<ApiError> errors) {
+        return errors.stream()
+                .map(error -> error.errorMessage() + " (" + error.errorCause() + ")")
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,291 @@
+package com.java.admin.service.url;
+
+import com.java.admin.config.CustomLogger;
+import com.java.admin.config.UrlSearchPropertiesConfig;
+import com.java.admin.dto.url.response.UrlExportRowDto;
+import com.java.admin.entity.url.UrlEntity;
+import com.java.admin.entity.url.UrlEntity_;
+import com.java.admin.repository.url.UrlRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Trigram index over the searchable text of each user's URLs, so a substring filter does not
+ * scan every row of the user. It only narrows the search: the database still applies the same
+ * literal LIKE to the candidates, so an outdated entry cannot return a wrong row.
+ *
+ * <p>A user's index is built from the database on their first search and then kept up to date by
+ * the writes of this instance. Writes made elsewhere (another instance, the short code migration)
+ * or committed while the index was being built are not in it, so every answer carries the time
+ * the index was built from, less {@code url-search.change-overlap}. Rows updated since then are
+ * checked by the database alongside the candidates; the updated_at trigger stamps every change
+ * to the searchable columns. The index is rebuilt after {@code url-search.rebuild-after} to keep
+ * that set small.
+ */
+@Component
+public class UrlSearchIndex {
+
+    private static final int GRAM = 3;
+
+    /**
+     * URL ids matching the value, best match first, and the time from which updated rows are not
+     * covered by them and must be checked by the database.
+     */
+    public record Candidates(List<Long> rankedIds, OffsetDateTime changedSince) {
+    }
+
+    private static final List<String> FIELDS = List.of(
+            UrlEntity_.ORIGINAL_URL, UrlEntity_.SHORT_URL, UrlEntity_.DESCRIPTION, UrlEntity_.CUSTOM_ALIAS);
+
+    private final UrlRepository urlRepository;
+    private final UrlSearchPropertiesConfig urlSearchPropertiesConfig;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<Long, UserIndex> users;
+
+    public UrlSearchIndex(
+            UrlRepository urlRepository,
+            UrlSearchPropertiesConfig urlSearchPropertiesConfig,
+            PlatformTransactionManager transactionManager) {
+        this.urlRepository = urlRepository;
+        this.urlSearchPropertiesConfig = urlSearchPropertiesConfig;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.users = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserIndex> eldest) {
+                return size() > urlSearchPropertiesConfig.getMaxIndexedUsers();
+            }
+        });
+    }
+
+    /**
+     * Returns the ids of the user's URLs whose field contains the value, best match first, or an
+     * empty result when the index cannot answer: the value is shorter than a trigram, the user has
+     * too many URLs to index, or more URLs match than {@code url-search.max-candidates}.
+     */
+    public Optional<Candidates> search(Long userId, String field, String value) {
+        int fieldIndex = FIELDS.indexOf(field);
+        if (!urlSearchPropertiesConfig.isIndexEnabled() || fieldIndex < 0 || value == null || value.length() < GRAM) {
+            return Optional.empty();
+        }
+
+        UserIndex userIndex = users.get(userId);
+        if (userIndex == null || System.nanoTime() - userIndex.builtAt > urlSearchPropertiesConfig.getRebuildAfter().toNanos()) {
+            userIndex = build(userId);
+            users.put(userId, userIndex);
+        }
+        OffsetDateTime changedSince = userIndex.buildStartedAt.minus(urlSearchPropertiesConfig.getChangeOverlap());
+        return userIndex.search(fieldIndex, value, urlSearchPropertiesConfig.getMaxCandidates())
+                .map(rankedIds -> new Candidates(rankedIds, changedSince));
+    }
+
+    public void put(Long userId, UrlEntity urlEntity) {
+        UserIndex userIndex = users.get(userId);
+        if (userIndex != null) {
+            userIndex.put(urlEntity.getId(), new String[]{
+                    urlEntity.getOriginalUrl(), urlEntity.getShortUrl(), urlEntity.getDescription(), urlEntity.getCustomAlias()});
+        }
+    }
+
+    public void remove(Long userId, Long urlId) {
+        UserIndex userIndex = users.get(userId);
+        if (userIndex != null) {
+            userIndex.remove(urlId);
+        }
+    }
+
+    private UserIndex build(Long userId) {
+        long start = System.nanoTime();
+        UserIndex userIndex = new UserIndex(start, OffsetDateTime.now());
+        // Writes committed while this runs may be missed, they are covered by changedSince
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<UrlExportRowDto> rows = urlRepository.streamExportRowsByUserId(userId)) {
+                Iterator<UrlExportRowDto> iterator = rows.iterator();
+                while (iterator.hasNext() && !userIndex.tooLarge) {
+                    UrlExportRowDto row = iterator.next();
+                    userIndex.put(row.id(), new String[]{row.url(), row.shortUrl(), row.description(), row.customAlias()});
+                    userIndex.tooLarge = userIndex.documents.size() > urlSearchPropertiesConfig.getMaxUrlsPerUser();
+                }
+            }
+        });
+
+        if (userIndex.tooLarge) {
+            // Keeps only the marker, so the user is not loaded again on every search
+            userIndex.clear();
+            CustomLogger.logInfo(UrlSearchIndex.class, "User ID: " + userId + " has more than " +
+                    urlSearchPropertiesConfig.getMaxUrlsPerUser() + " URLs, searching without the index");
+        } else {
+            CustomLogger.logInfo(UrlSearchIndex.class, "Indexed " + userIndex.documents.size() + " URLs for user ID: " +
+                    userId + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+        return userIndex;
+    }
+
+    private static long trigram(String text, int start) {
+        return (long) text.charAt(start) << 32 | (long) text.charAt(start + 1) << 16 | text.charAt(start + 2);
+    }
+
+    private static Set<Long> trigrams(String text) {
+        if (text == null) {
+            return Set.of();
+        }
+        Set<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            trigrams.add(trigram(text, i));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Posting lists hold each id once per trigram. An update removes the id from the trigrams the
+     * old text had and the new one does not, so memory follows the current text.
+     */
+    private static final class UserIndex {
+
+        private final long builtAt;
+        private final OffsetDateTime buildStartedAt;
+        private final Map<Long, String[]> documents = new HashMap<>();
+        private final List<Map<Long, Postings>> postings = new ArrayList<>(FIELDS.size());
+        private boolean tooLarge;
+
+        private UserIndex(long builtAt, OffsetDateTime buildStartedAt) {
+            this.builtAt = builtAt;
+            this.buildStartedAt = buildStartedAt;
+            for (int i = 0; i < FIELDS.size(); i++) {
+                postings.add(new HashMap<>());
+            }
+        }
+
+        synchronized void put(Long urlId, String[] fields) {
+            if (tooLarge) {
+                return;
+            }
+            String[] previous = documents.put(urlId, fields);
+            for (int field = 0; field < fields.length; field++) {
+                Set<Long> oldTrigrams = trigrams(previous == null ? null : previous[field]);
+                Set<Long> newTrigrams = trigrams(fields[field]);
+                Map<Long, Postings> fieldPostings = postings.get(field);
+                for (Long trigram : oldTrigrams) {
+                    if (!newTrigrams.contains(trigram)) {
+                        removePosting(fieldPostings, trigram, urlId);
+                    }
+                }
+                for (Long trigram : newTrigrams) {
+                    if (!oldTrigrams.contains(trigram)) {
+                        fieldPostings.computeIfAbsent(trigram, key -> new Postings()).add(urlId);
+                    }
+                }
+            }
+        }
+
+        synchronized void remove(Long urlId) {
+            String[] previous = documents.remove(urlId);
+            if (previous == null) {
+                return;
+            }
+            for (int field = 0; field < previous.length; field++) {
+                for (Long trigram : trigrams(previous[field])) {
+                    removePosting(postings.get(field), trigram, urlId);
+                }
+            }
+        }
+
+        private static void removePosting(Map<Long, Postings> fieldPostings, Long trigram, long urlId) {
+            Postings postings = fieldPostings.get(trigram);
+            if (postings != null && postings.remove(urlId) && postings.size == 0) {
+                fieldPostings.remove(trigram);
+            }
+        }
+
+        synchronized void clear() {
+            documents.clear();
+            postings.forEach(Map::clear);
+        }
+
+        synchronized Optional<List<Long>> search(int field, String value, int maxCandidates) {
+            if (tooLarge) {
+                return Optional.empty();
+            }
+
+            // Every match holds all trigrams of the value, so the shortest posting list covers them all
+            Postings shortest = null;
+            Map<Long, Postings> fieldPostings = postings.get(field);
+            for (int i = 0; i + GRAM <= value.length(); i++) {
+                Postings candidates = fieldPostings.get(trigram(value, i));
+                if (candidates == null) {
+                    return Optional.of(List.of());
+                }
+                if (shortest == null || candidates.size < shortest.size) {
+                    shortest = candidates;
+                }
+            }
+
+            List<Match> matches = new ArrayList<>();
+            long[] ids = Arrays.copyOf(shortest.ids, shortest.size);
+            Arrays.sort(ids);
+            for (long id : ids) {
+                String[] document = documents.get(id);
+                String text = document == null ? null : document[field];
+                int position = text == null ? -1 : text.indexOf(value);
+                if (position >= 0) {
+                    if (matches.size() == maxCandidates) {
+                        return Optional.empty();
+                    }
+                    matches.add(new Match(id, text.length() == value.length(), position, text.length()));
+                }
+            }
+
+            // Exact matches first, then the earliest and the shortest text, then the newest URL
+            return Optional.of(matches.stream()
+                    .sorted(Comparator.comparing(Match::exact).reversed()
+                            .thenComparingInt(Match::position)
+                            .thenComparingInt(Match::length)
+                            .thenComparing(Comparator.comparingLong(Match::id).reversed()))
+                    .map(Match::id)
+                    .toList());
+        }
+    }
+
+    private record Match(long id, boolean exact, int position, int length) {
+    }
+
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        // Order does not matter, search sorts a copy, so the last id fills the gap
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
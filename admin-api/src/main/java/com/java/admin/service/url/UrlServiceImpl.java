@@ -11,35 +11,51 @@ import com.java.admin.dto.url.response.DeleteUrlResponseDto;
 import com.java.admin.dto.url.response.PatchUrlResponseDto;
 import com.java.admin.dto.url.response.PutUrlResponseDto;
 import com.java.admin.entity.url.UrlEntity;
+import com.java.admin.entity.url.UrlEntity_;
 import com.java.admin.entity.user.UserEntity;
 import com.java.admin.exception.url.UrlException;
 import com.java.admin.mapper.url.UrlMapper;
+import com.java.admin.repository.url.UrlIdAllocator;
 import com.java.admin.repository.url.UrlRepository;
+import com.java.admin.specification.url.UrlCursor;
 import com.java.admin.specification.url.UrlSpecification;
 import com.java.admin.repository.user.UserRepository;
 import com.java.admin.usecase.url.IUrlService;
-import com.java.admin.util.GenerateRandomDataUtil;
+import com.java.admin.util.OriginalUrlHasher;
+import com.java.admin.util.ShortCodeCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class UrlServiceImpl implements IUrlService {
 
+    private static final String URL_USER_FOREIGN_KEY = "fk_url_table_on_user";
+
     private final UrlRepository urlRepository;
+    private final UrlIdAllocator urlIdAllocator;
     private final UserRepository userRepository;
     private final UrlMapper urlMapper;
+    private final ShortCodeCodec shortCodeCodec;
+    private final UrlSearchIndex urlSearchIndex;
 
     @Override
     public CreateUrlResponseDto createUrl(CreateUrlRequestDto createUrlRequestDto, Long userId) {
 
         CustomLogger.logInfo(UrlServiceImpl.class, "Creating URL for user ID: " + userId);
 
-        UrlEntity urlEntity = urlRepository.findUrlEntitiesByUserAndDeletedIsFalseAndOriginalUrl(userId, createUrlRequestDto.url()).orElse(null);
-        if (urlEntity != null) {
+        if (urlRepository.existsByUserIdAndUrlHashAndNotDeleted(userId, OriginalUrlHasher.hash(createUrlRequestDto.url()))) {
             CustomLogger.logInfo(UrlServiceImpl.class, "URL already exists for user ID: " + userId);
             throw new UrlException(
                     UrlException.URL_ALREADY_EXISTS_CODE,
@@ -47,27 +63,51 @@ public class UrlServiceImpl implements IUrlService {
                     UrlException.URL_ALREADY_EXISTS_CAUSE);
         }
 
-        UserEntity userEntity = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
-
-        urlEntity = new UrlEntity();
-        urlEntity.setOriginalUrl(createUrlRequestDto.url());
-        urlEntity.setDescription(createUrlRequestDto.description());
-        urlEntity.setUser(userEntity);
-        urlEntity.setActive(createUrlRequestDto.isActive());
-        urlEntity.setClickCount(0L);
-        urlEntity.setValidSince(createUrlRequestDto.validSince());
-        urlEntity.setValidUntil(createUrlRequestDto.validUntil());
-
-        // Save the URL entity to the database to generate an ID and use it for the short URL
-        UrlEntity newUrlEntity = urlRepository.save(urlEntity);
-
-        // Generate the short URL using the newly created URL entity's ID
-        String shortUrl = GenerateRandomDataUtil.generateShortUrl(newUrlEntity.getId());
-
-        newUrlEntity.setShortUrl(shortUrl);
+        // The user ID comes from the authenticated token, a reference is enough to set the foreign key
+        UserEntity userEntity = userRepository.getReferenceById(userId);
+
+        UrlEntity newUrlEntity = null;
+        for (int attempt = 1; newUrlEntity == null; attempt++) {
+            long urlId = urlIdAllocator.nextId();
+
+            // A fresh entity per attempt, the failed one may be left marked as persisted
+            UrlEntity urlEntity = urlMapper.toEntity(createUrlRequestDto);
+            urlEntity.setId(urlId);
+            // The code is a bijective encoding of the ID, unique among generated codes but not
+            // among the legacy codes and aliases in url_code
+            urlEntity.setShortUrl(shortCodeCodec.encode(urlId));
+            urlEntity.setUser(userEntity);
+
+            try {
+                newUrlEntity = urlRepository.save(urlEntity);
+            } catch (DataIntegrityViolationException e) {
+                if (UrlCodeConflicts.violates(e, URL_USER_FOREIGN_KEY)) {
+                    throw new RuntimeException("User not found with ID: " + userId);
+                }
+                if (UrlCodeConflicts.isAliasConflict(e, urlEntity.getShortUrl(), urlEntity.getCustomAlias())) {
+                    CustomLogger.logInfo(UrlServiceImpl.class, "Custom alias already in use: " + urlEntity.getCustomAlias());
+                    throw new UrlException(
+                            UrlException.URL_ALIAS_ALREADY_EXISTS_CODE,
+                            UrlException.URL_ALIAS_ALREADY_EXISTS_MESSAGE,
+                            UrlException.URL_ALIAS_ALREADY_EXISTS_CAUSE);
+                }
+                if (!UrlCodeConflicts.isShortCodeConflict(e, urlEntity.getShortUrl(), urlEntity.getCustomAlias())) {
+                    throw e;
+                }
+                if (attempt == UrlCodeConflicts.MAX_SHORT_CODE_ATTEMPTS) {
+                    CustomLogger.logError(UrlServiceImpl.class, "No free short code after " + attempt +
+                            " attempts for user ID: " + userId, e);
+                    throw new UrlException(
+                            UrlException.URL_CREATE_FAILED_CODE,
+                            UrlException.URL_CREATE_FAILED_MESSAGE,
+                            UrlException.URL_CREATE_FAILED_CAUSE);
+                }
+                CustomLogger.logWarning(UrlServiceImpl.class, "Short code " + urlEntity.getShortUrl() +
+                        " is already taken, retrying with a new ID");
+            }
+        }
 
-        newUrlEntity = urlRepository.save(newUrlEntity);
+        urlSearchIndex.put(userId, newUrlEntity);
 
         return urlMapper.toResponseDto(newUrlEntity);
     }
@@ -77,20 +117,31 @@ public class UrlServiceImpl implements IUrlService {
 
         CustomLogger.logInfo(UrlServiceImpl.class, "Fetching all URLs for user ID: " + userId);
 
+        UrlSearchIndex.Candidates candidates = findSearchCandidates(getUrlsRequestDto, userId);
+
+        if (getUrlsRequestDto.cursor() != null) {
+            return getUrlsAfterCursor(getUrlsRequestDto, userId, candidates);
+        }
+
         Pageable pageable = PageRequest.of(getUrlsRequestDto.page() -1, getUrlsRequestDto.size());
-        UrlSpecification urlSpecification = new UrlSpecification(getUrlsRequestDto);
-        Page<UrlEntity> urlEntityPage = urlRepository.findAll(urlSpecification, pageable);
+        Page<UrlEntity> urlEntityPage;
+        if (candidates != null && (getUrlsRequestDto.sortBy() == null || getUrlsRequestDto.sortBy().isBlank())) {
+            urlEntityPage = findRankedUrls(getUrlsRequestDto, userId, candidates, pageable);
+        } else {
+            urlEntityPage = urlRepository.findAll(specification(getUrlsRequestDto, userId, null, candidates), pageable);
+        }
 
         if (urlEntityPage.isEmpty()) {
             CustomLogger.logInfo(UrlServiceImpl.class, "No URLs found for user ID: " + userId);
             return new ApiPaginationResponse(
-                    0,
+                    0L,
                     0,
                     getUrlsRequestDto.page(),
                     getUrlsRequestDto.size(),
                     true,
                     true, false,
                     false,
+                    null,
                     null);
         }
 
@@ -103,10 +154,121 @@ public class UrlServiceImpl implements IUrlService {
                 urlEntityPage.isFirst(),
                 urlEntityPage.hasNext(),
                 urlEntityPage.hasPrevious(),
+                null,
                 urlMapper.toResponseDtoList(urlEntityPage.getContent())
         );
     }
 
+    // Null when there is no text filter or the search index cannot answer it, the LIKE filter then scans the user's URLs
+    private UrlSearchIndex.Candidates findSearchCandidates(GetUrlsRequestDto getUrlsRequestDto, Long userId) {
+        if (getUrlsRequestDto.filterBy() == null || getUrlsRequestDto.filterValue() == null
+                || getUrlsRequestDto.filterValue().isBlank()) {
+            return null;
+        }
+        return urlSearchIndex.search(userId, getUrlsRequestDto.filterBy(), getUrlsRequestDto.filterValue()).orElse(null);
+    }
+
+    private static UrlSpecification specification(
+            GetUrlsRequestDto getUrlsRequestDto,
+            Long userId,
+            UrlCursor after,
+            UrlSearchIndex.Candidates candidates) {
+        return candidates == null
+                ? new UrlSpecification(getUrlsRequestDto, userId, after)
+                : new UrlSpecification(getUrlsRequestDto, userId, after, candidates.rankedIds(), candidates.changedSince());
+    }
+
+    // The candidates are few enough to read at once and keep in the index's relevance order. Rows
+    // updated since the index was built are not ranked by it and follow, newest first.
+    private Page<UrlEntity> findRankedUrls(
+            GetUrlsRequestDto getUrlsRequestDto,
+            Long userId,
+            UrlSearchIndex.Candidates candidates,
+            Pageable pageable) {
+
+        Map<Long, Integer> rank = new HashMap<>();
+        List<Long> rankedIds = candidates.rankedIds();
+        for (int i = 0; i < rankedIds.size(); i++) {
+            rank.put(rankedIds.get(i), i);
+        }
+
+        List<UrlEntity> urlEntities = urlRepository.findAll(specification(getUrlsRequestDto, userId, null, candidates))
+                .stream()
+                .sorted(Comparator.<UrlEntity>comparingInt(urlEntity -> rank.getOrDefault(urlEntity.getId(), Integer.MAX_VALUE))
+                        .thenComparing(UrlEntity::getCreatedAt, Comparator.reverseOrder())
+                        .thenComparing(UrlEntity::getId, Comparator.reverseOrder()))
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), urlEntities.size());
+        int to = Math.min(from + pageable.getPageSize(), urlEntities.size());
+        return new PageImpl<>(urlEntities.subList(from, to), pageable, urlEntities.size());
+    }
+
+    // Seeks past the cursor instead of skipping an OFFSET, so every page costs the same
+    private ApiPaginationResponse getUrlsAfterCursor(
+            GetUrlsRequestDto getUrlsRequestDto,
+            Long userId,
+            UrlSearchIndex.Candidates candidates) {
+
+        String sortBy = getUrlsRequestDto.sortBy();
+        if (sortBy != null && !sortBy.isBlank() && !UrlEntity_.CREATED_AT.equals(sortBy)) {
+            throw invalidCursor();
+        }
+
+        UrlCursor after = null;
+        if (!getUrlsRequestDto.cursor().isBlank()) {
+            try {
+                after = UrlCursor.decode(getUrlsRequestDto.cursor());
+            } catch (IllegalArgumentException e) {
+                throw invalidCursor();
+            }
+        }
+
+        int size = getUrlsRequestDto.size();
+        // One extra row tells whether there is a next page without counting
+        List<UrlEntity> urlEntities = new ArrayList<>(urlRepository.findBy(
+                specification(getUrlsRequestDto, userId, after, candidates),
+                query -> query.limit(size + 1).all()));
+
+        boolean hasNextPage = urlEntities.size() > size;
+        if (hasNextPage) {
+            urlEntities.remove(size);
+        }
+
+        String nextCursor = null;
+        if (hasNextPage) {
+            UrlEntity last = urlEntities.get(urlEntities.size() - 1);
+            nextCursor = new UrlCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        Long totalElements = null;
+        Integer totalPages = null;
+        if (Boolean.TRUE.equals(getUrlsRequestDto.includeCount())) {
+            totalElements = urlRepository.count(specification(getUrlsRequestDto, userId, null, candidates));
+            totalPages = (int) ((totalElements + size - 1) / size);
+        }
+
+        return new ApiPaginationResponse(
+                totalElements,
+                totalPages,
+                null,
+                size,
+                !hasNextPage,
+                after == null,
+                hasNextPage,
+                after != null,
+                nextCursor,
+                urlMapper.toResponseDtoList(urlEntities)
+        );
+    }
+
+    private static UrlException invalidCursor() {
+        return new UrlException(
+                UrlException.URL_INVALID_CURSOR_CODE,
+                UrlException.URL_INVALID_CURSOR_MESSAGE,
+                UrlException.URL_INVALID_CURSOR_CAUSE);
+    }
+
     @Override
     public PatchUrlResponseDto toggleUrlStatus(PatchUrlRequestDto patchUrlRequestDto, Long urlId, Long userId) {
         CustomLogger.logInfo(UrlServiceImpl.class, "Toggling URL status for user ID: " + userId);
@@ -147,16 +309,31 @@ public class UrlServiceImpl implements IUrlService {
             );
         }
 
-        int result = urlRepository.updateUrl(
-                urlId,
-                userId,
-                putUrlRequestDto.customAlias(),
-                putUrlRequestDto.url(),
-                putUrlRequestDto.description(),
-                putUrlRequestDto.validSince(),
-                putUrlRequestDto.validUntil(),
-                putUrlRequestDto.isActive()
-        );
+        int result;
+        try {
+            result = urlRepository.updateUrl(
+                    urlId,
+                    userId,
+                    putUrlRequestDto.customAlias(),
+                    putUrlRequestDto.url(),
+                    OriginalUrlHasher.hash(putUrlRequestDto.url()),
+                    putUrlRequestDto.description(),
+                    putUrlRequestDto.validSince(),
+                    putUrlRequestDto.validUntil(),
+                    putUrlRequestDto.isActive()
+            );
+        } catch (DataIntegrityViolationException e) {
+            // Aliases and short codes share the url_code primary key, maintained by a trigger on url_table
+            if (!UrlCodeConflicts.violates(e, UrlCodeConflicts.URL_CODE_PRIMARY_KEY)) {
+                throw e;
+            }
+            CustomLogger.logInfo(UrlServiceImpl.class, "Custom alias already in use: " + putUrlRequestDto.customAlias());
+            throw new UrlException(
+                    UrlException.URL_ALIAS_ALREADY_EXISTS_CODE,
+                    UrlException.URL_ALIAS_ALREADY_EXISTS_MESSAGE,
+                    UrlException.URL_ALIAS_ALREADY_EXISTS_CAUSE
+            );
+        }
 
         if (result <= 0) {
             throw new UrlException(
@@ -169,10 +346,12 @@ public class UrlServiceImpl implements IUrlService {
         // Update the URL entity with the new values
         urlEntity.setCustomAlias(putUrlRequestDto.customAlias());
         urlEntity.setOriginalUrl(putUrlRequestDto.url());
+        urlEntity.setUrlHash(OriginalUrlHasher.hash(putUrlRequestDto.url()));
         urlEntity.setDescription(putUrlRequestDto.description());
         urlEntity.setValidSince(putUrlRequestDto.validSince());
         urlEntity.setValidUntil(putUrlRequestDto.validUntil());
         urlEntity.setActive(putUrlRequestDto.isActive());
+        urlSearchIndex.put(userId, urlEntity);
 
         return urlMapper.toPutResponseDto(urlEntity);
     }
@@ -200,9 +379,12 @@ public class UrlServiceImpl implements IUrlService {
             );
         }
 
+        urlSearchIndex.remove(userId, urlId);
+
         return new DeleteUrlResponseDto(true);
     }
 
 
 
+
 }
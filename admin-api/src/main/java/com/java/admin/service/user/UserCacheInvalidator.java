@@ -0,0 +1,28 @@
+package com.java.admin.service.user;
+
+import com.java.admin.config.CacheConfig;
+import com.java.admin.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        Cache userDetails = cacheManager.getCache(CacheConfig.USER_DETAILS_CACHE);
+        if (userDetails != null && event.email() != null) {
+            userDetails.evict(event.email());
+        }
+        Cache userProfile = cacheManager.getCache(CacheConfig.USER_PROFILE_CACHE);
+        if (userProfile != null && event.userId() != null) {
+            userProfile.evict(event.userId());
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.java.admin.service.user;
 
+import com.java.admin.config.CacheConfig;
 import com.java.admin.dto.user.request.UpdateUserRequestDto;
 import com.java.admin.dto.user.response.GetUserResponseDto;
 import com.java.admin.dto.user.response.UpdateUserResponseDto;
 import com.java.admin.entity.user.UserEntity;
+import com.java.admin.event.UserChangedEvent;
 import com.java.admin.exception.user.UserException;
 import com.java.admin.mapper.user.UserMapper;
 import com.java.admin.repository.user.UserRepository;
 import com.java.admin.usecase.user.IUserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -17,8 +21,10 @@ public class UserServiceImpl implements IUserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
+    @Cacheable(CacheConfig.USER_PROFILE_CACHE)
     public GetUserResponseDto getUserById(Long userId) {
 
         UserEntity userEntity = userRepository.findUserEntityById(userId).orElse(null);
@@ -51,6 +57,7 @@ public class UserServiceImpl implements IUserService {
         userEntity.setPhoneNumber(updateUserRequestDto.phoneNumber());
         userEntity.setAddress(updateUserRequestDto.address());
         userEntity = userRepository.save(userEntity);
+        applicationEventPublisher.publishEvent(new UserChangedEvent(userEntity.getId(), userEntity.getEmail()));
 
         return new UpdateUserResponseDto(
                 userEntity.getUsername(),
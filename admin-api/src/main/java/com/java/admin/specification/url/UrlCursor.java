@@ -0,0 +1,35 @@
+package com.java.admin.specification.url;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last URL of a page in the (created_at, id) order. Clients get it as an opaque
+ * token and send it back to read the rows after it, so rows inserted meanwhile never shift a page.
+ */
+public record UrlCursor(OffsetDateTime createdAt, Long id) {
+
+    public String encode() {
+        String position = createdAt.toInstant() + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UrlCursor decode(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf(',');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Cursor has no id");
+            }
+            return new UrlCursor(
+                    Instant.parse(position.substring(0, separator)).atOffset(ZoneOffset.UTC),
+                    Long.parseLong(position.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor has no valid timestamp", e);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.lang.NonNull;
 import java.io.Serial;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class UrlSpecification implements Specification<UrlEntity> {
@@ -22,10 +23,48 @@ public class UrlSpecification implements Specification<UrlEntity> {
     @Serial
     private static final long serialVersionUID = 4276451895291483569L;
 
+    public static final char LIKE_ESCAPE = '\\';
+
     private final transient GetUrlsRequestDto criteria;
+    private final Long ownerId;
+    private final transient UrlCursor after;
+    private final transient Collection<Long> candidateIds;
+    private final transient OffsetDateTime changedSince;
+
+    public UrlSpecification(GetUrlsRequestDto criteria, Long ownerId) {
+        this(criteria, ownerId, null, null, null);
+    }
 
-    public UrlSpecification(GetUrlsRequestDto criteria) {
+    // With a cursor the rows are ordered by (createdAt, id) and only those after the cursor match
+    public UrlSpecification(GetUrlsRequestDto criteria, Long ownerId, UrlCursor after) {
+        this(criteria, ownerId, after, null, null);
+    }
+
+    // Candidate ids from the search index narrow the rows the text filter has to be checked on,
+    // together with the rows updated since the index was built, which it may not cover
+    public UrlSpecification(
+            GetUrlsRequestDto criteria,
+            Long ownerId,
+            UrlCursor after,
+            Collection<Long> candidateIds,
+            OffsetDateTime changedSince) {
         this.criteria = criteria;
+        this.ownerId = ownerId;
+        this.after = after;
+        this.candidateIds = candidateIds;
+        this.changedSince = changedSince;
+    }
+
+    /**
+     * LIKE pattern matching the value as a literal substring, the way the search index matches it,
+     * so '%' and '_' in a filter value are not wildcards. Use with {@link #LIKE_ESCAPE}.
+     */
+    public static String containsPattern(String value) {
+        String escaped = value
+                .replace(String.valueOf(LIKE_ESCAPE), String.valueOf(LIKE_ESCAPE) + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+        return "%" + escaped + "%";
     }
 
     @Override
@@ -42,19 +81,33 @@ public class UrlSpecification implements Specification<UrlEntity> {
         Path<Boolean> isActive = root.get(UrlEntity_.IS_ACTIVE);
         Path<OffsetDateTime> validSince = root.get(UrlEntity_.VALID_SINCE);
         Path<OffsetDateTime> validUntil = root.get(UrlEntity_.VALID_UNTIL);
+        Path<OffsetDateTime> createdAt = root.get(UrlEntity_.CREATED_AT);
+        Path<OffsetDateTime> updatedAt = root.get(UrlEntity_.UPDATED_AT);
+        Path<Long> id = root.get(UrlEntity_.ID);
 
         final List<Predicate> predicates = new ArrayList<>();
 
-        if (criteria.userId() != null) {
-            predicates.add(criteriaBuilder.equal(userId, criteria.userId()));
+        // Always the authenticated user, never the userId sent with the filters
+        predicates.add(criteriaBuilder.equal(userId, ownerId));
+
+        if (candidateIds != null) {
+            if (changedSince == null) {
+                predicates.add(id.in(candidateIds));
+            } else if (candidateIds.isEmpty()) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(updatedAt, changedSince));
+            } else {
+                predicates.add(criteriaBuilder.or(
+                        id.in(candidateIds),
+                        criteriaBuilder.greaterThanOrEqualTo(updatedAt, changedSince)));
+            }
         }
         if (criteria.filterBy() != null && !criteria.filterBy().isBlank()
         && criteria.filterValue() != null && !criteria.filterValue().isBlank()) {
             switch (criteria.filterBy()) {
-                case UrlEntity_.CUSTOM_ALIAS -> predicates.add(criteriaBuilder.like(customAlias, "%" + criteria.filterValue() + "%"));
-                case UrlEntity_.ORIGINAL_URL -> predicates.add(criteriaBuilder.like(originalUrl, "%" + criteria.filterValue() + "%"));
-                case UrlEntity_.DESCRIPTION -> predicates.add(criteriaBuilder.like(description, "%" + criteria.filterValue() + "%"));
-                case UrlEntity_.SHORT_URL -> predicates.add(criteriaBuilder.like(shortUrl, "%" + criteria.filterValue() + "%"));
+                case UrlEntity_.CUSTOM_ALIAS -> predicates.add(criteriaBuilder.like(customAlias, containsPattern(criteria.filterValue()), LIKE_ESCAPE));
+                case UrlEntity_.ORIGINAL_URL -> predicates.add(criteriaBuilder.like(originalUrl, containsPattern(criteria.filterValue()), LIKE_ESCAPE));
+                case UrlEntity_.DESCRIPTION -> predicates.add(criteriaBuilder.like(description, containsPattern(criteria.filterValue()), LIKE_ESCAPE));
+                case UrlEntity_.SHORT_URL -> predicates.add(criteriaBuilder.like(shortUrl, containsPattern(criteria.filterValue()), LIKE_ESCAPE));
                 default -> throw new IllegalArgumentException("Unsupported filterBy: " + criteria.filterBy());
             }
         }
@@ -71,8 +124,27 @@ public class UrlSpecification implements Specification<UrlEntity> {
             predicates.add(criteriaBuilder.lessThanOrEqualTo(validUntil, criteria.validUntil()));
         }
 
-        if (criteria.sortBy() != null && !criteria.sortBy().isBlank()) {
-            if (criteria.ascending() != null && criteria.ascending()) {
+        boolean ascending = criteria.ascending() != null && criteria.ascending();
+        if (criteria.cursor() != null) {
+            if (after != null) {
+                predicates.add(ascending
+                        ? criteriaBuilder.or(
+                                criteriaBuilder.greaterThan(createdAt, after.createdAt()),
+                                criteriaBuilder.and(
+                                        criteriaBuilder.equal(createdAt, after.createdAt()),
+                                        criteriaBuilder.greaterThan(id, after.id())))
+                        : criteriaBuilder.or(
+                                criteriaBuilder.lessThan(createdAt, after.createdAt()),
+                                criteriaBuilder.and(
+                                        criteriaBuilder.equal(createdAt, after.createdAt()),
+                                        criteriaBuilder.lessThan(id, after.id()))));
+            }
+            // id breaks ties between URLs created in the same microsecond
+            query.orderBy(ascending
+                    ? List.of(criteriaBuilder.asc(createdAt), criteriaBuilder.asc(id))
+                    : List.of(criteriaBuilder.desc(createdAt), criteriaBuilder.desc(id)));
+        } else if (criteria.sortBy() != null && !criteria.sortBy().isBlank()) {
+            if (ascending) {
                 query.orderBy(criteriaBuilder.asc(root.get(criteria.sortBy())));
             } else {
                 query.orderBy(criteriaBuilder.desc(root.get(criteria.sortBy())));
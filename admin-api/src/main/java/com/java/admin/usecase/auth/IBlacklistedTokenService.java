@@ -1,8 +1,10 @@
 package com.java.admin.usecase.auth;
 
+import java.time.OffsetDateTime;
+
 public interface IBlacklistedTokenService {
 
-    void blacklistToken(String token);
+    void blacklistToken(String token, OffsetDateTime expiresAt);
     boolean isTokenBlacklisted(String token);
     void cleanupExpiredTokens();
 }
@@ -0,0 +1,11 @@
+package com.java.admin.usecase.url;
+
+import com.java.admin.dto.url.request.CreateUrlRequestDto;
+import com.java.admin.dto.url.response.BulkCreateUrlResponseDto;
+
+import java.util.Iterator;
+
+public interface IUrlBulkService {
+
+    BulkCreateUrlResponseDto createUrls(Iterator<CreateUrlRequestDto> createUrlRequests, Long userId);
+}
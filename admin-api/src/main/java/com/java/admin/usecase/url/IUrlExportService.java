@@ -0,0 +1,11 @@
+package com.java.admin.usecase.url;
+
+import com.java.admin.entity.url.UrlFileFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface IUrlExportService {
+
+    void exportUrls(UrlFileFormat format, Long userId, OutputStream output) throws IOException;
+}
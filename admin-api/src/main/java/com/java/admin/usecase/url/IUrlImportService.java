@@ -0,0 +1,13 @@
+package com.java.admin.usecase.url;
+
+import com.java.admin.dto.url.response.UrlImportJobResponseDto;
+import com.java.admin.entity.url.UrlFileFormat;
+
+import java.io.InputStream;
+
+public interface IUrlImportService {
+
+    UrlImportJobResponseDto createImportJob(UrlFileFormat format, Long userId);
+    UrlImportJobResponseDto runImport(Long jobId, UrlFileFormat format, InputStream upload, Long userId);
+    UrlImportJobResponseDto getImportJob(Long jobId, Long userId);
+}
@@ -0,0 +1,122 @@
+package com.java.admin.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads RFC 4180 CSV one record at a time: comma separated, fields optionally quoted with
+ * doubled quotes inside, LF or CRLF line endings, line breaks allowed inside quoted fields.
+ * Blank lines are skipped. A record longer than the limit fails the read, so an unbalanced
+ * quote cannot pull the rest of a large upload into memory.
+ */
+public final class CsvReader implements Iterator<List<String>> {
+
+    private final BufferedReader reader;
+    private final int maxRecordLength;
+
+    private List<String> nextRecord;
+    private boolean finished;
+    private long lineNumber = 1;
+
+    public CsvReader(BufferedReader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRecord == null && !finished) {
+            try {
+                nextRecord = readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return nextRecord != null;
+    }
+
+    @Override
+    public List<String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<String> record = nextRecord;
+        nextRecord = null;
+        return record;
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+        int length = 0;
+
+        for (int c = reader.read(); ; c = reader.read()) {
+            if (c == -1) {
+                finished = true;
+                if (quoted) {
+                    throw new IOException("Unterminated quoted field at line " + lineNumber);
+                }
+                if (empty) {
+                    return null;
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+            if (++length > maxRecordLength) {
+                throw new IOException("CSV record at line " + lineNumber + " is longer than " + maxRecordLength + " characters");
+            }
+
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    quoted = true;
+                    empty = false;
+                }
+                case ',' -> {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    empty = false;
+                }
+                case '\r' -> {
+                    // Dropped, the following LF ends the record
+                }
+                case '\n' -> {
+                    lineNumber++;
+                    if (!empty) {
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    length = 0;
+                }
+                default -> {
+                    field.append((char) c);
+                    empty = false;
+                }
+            }
+        }
+    }
+}
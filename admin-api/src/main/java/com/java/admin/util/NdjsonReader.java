@@ -0,0 +1,99 @@
+package com.java.admin.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads newline delimited JSON one line at a time, so a large upload is never held in memory.
+ * Blank lines are skipped and a line that does not parse is returned as null, letting callers
+ * report it against its position instead of failing the whole stream. A line longer than the
+ * limit is skipped to its end without being kept and returned as null the same way.
+ */
+public final class NdjsonReader<T> implements Iterator<T> {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private final int maxLineLength;
+    private final StringBuilder line = new StringBuilder();
+
+    private boolean pending;
+    private String nextLine;
+
+    public NdjsonReader(BufferedReader reader, ObjectReader objectReader, int maxLineLength) {
+        this.reader = reader;
+        this.objectReader = objectReader;
+        this.maxLineLength = maxLineLength;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (!pending) {
+                if (!readLine()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String current = nextLine;
+        nextLine = null;
+        pending = false;
+        if (current == null) {
+            return null;
+        }
+        try {
+            return objectReader.readValue(current);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads up to the next line break, returning false at the end of the input. A blank line
+     * leaves nothing pending, an oversized one leaves a null line pending.
+     */
+    private boolean readLine() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+
+        line.setLength(0);
+        boolean tooLong = false;
+        for (; c != -1 && c != '\n'; c = reader.read()) {
+            if (tooLong) {
+                continue;
+            }
+            if (line.length() == maxLineLength) {
+                tooLong = true;
+                line.setLength(0);
+            } else {
+                line.append((char) c);
+            }
+        }
+
+        if (tooLong) {
+            nextLine = null;
+            pending = true;
+        } else if (!line.toString().isBlank()) {
+            nextLine = line.toString();
+            pending = true;
+        }
+        return true;
+    }
+}
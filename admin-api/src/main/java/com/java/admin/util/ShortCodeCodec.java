@@ -0,0 +1,118 @@
+package com.java.admin.util;
+
+import com.java.admin.config.ShortCodePropertiesConfig;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Turns url ids into 7 character base62 short codes and back. The id goes through a keyed
+ * Feistel permutation, so consecutive ids give unrelated looking codes, and because the
+ * permutation is a bijection two ids can never share a code. The network works on 42 bits and
+ * cycle walks until the value falls inside the 62^7 code space.
+ */
+@Component
+public class ShortCodeCodec {
+
+    public static final int CODE_LENGTH = 7;
+    public static final long CODE_SPACE = 3_521_614_606_208L; // 62^7
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final int HALF_BITS = 21;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int ROUNDS = 6;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public ShortCodeCodec(ShortCodePropertiesConfig shortCodePropertiesConfig) {
+        String secret = shortCodePropertiesConfig.getSecret();
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("short-code.secret must be configured");
+        }
+
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            for (int round = 0; round < ROUNDS; round++) {
+                sha256.update(secret.getBytes(StandardCharsets.UTF_8));
+                sha256.update((byte) round);
+                roundKeys[round] = ByteBuffer.wrap(sha256.digest()).getLong();
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public String encode(long id) {
+        if (id < 0 || id >= CODE_SPACE) {
+            throw new IllegalArgumentException("Id out of short code range: " + id);
+        }
+
+        long value = id;
+        do {
+            value = permute(value);
+        } while (value >= CODE_SPACE);
+
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET.charAt((int) (value % ALPHABET.length()));
+            value /= ALPHABET.length();
+        }
+        return new String(code);
+    }
+
+    public long decode(String code) {
+        if (code == null || code.length() != CODE_LENGTH) {
+            throw new IllegalArgumentException("Not a short code: " + code);
+        }
+
+        long value = 0;
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            int digit = ALPHABET.indexOf(code.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Not a short code: " + code);
+            }
+            value = value * ALPHABET.length() + digit;
+        }
+
+        do {
+            value = unpermute(value);
+        } while (value >= CODE_SPACE);
+        return value;
+    }
+
+    private long permute(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (int round = 0; round < ROUNDS; round++) {
+            long next = left ^ roundFunction(right, round);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private long unpermute(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (int round = ROUNDS - 1; round >= 0; round--) {
+            long previous = right ^ roundFunction(left, round);
+            right = left;
+            left = previous;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private long roundFunction(long half, int round) {
+        // murmur3 64 bit finalizer over the keyed input
+        long h = half ^ roundKeys[round];
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h & HALF_MASK;
+    }
+}
@@ -0,0 +1,49 @@
+package db.migration;
+
+import com.java.admin.util.OriginalUrlHasher;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Fills url_table.url_hash for the rows created before V9. The hash is computed by the same
+ * OriginalUrlHasher the application uses, which SQL cannot reproduce. Rows are read in id order
+ * one batch at a time, so the memory needed does not depend on the size of the table.
+ */
+public class V10__Backfill_url_hash extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, original_url FROM url_table WHERE url_hash IS NULL AND id > ? ORDER BY id LIMIT " + BATCH_SIZE);
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE url_table SET url_hash = ? WHERE id = ?")) {
+
+            long lastId = Long.MIN_VALUE;
+            int rows;
+            do {
+                rows = 0;
+                select.setLong(1, lastId);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        lastId = resultSet.getLong(1);
+                        update.setString(1, OriginalUrlHasher.hash(resultSet.getString(2)));
+                        update.setLong(2, lastId);
+                        update.addBatch();
+                        rows++;
+                    }
+                }
+                if (rows > 0) {
+                    update.executeBatch();
+                }
+            } while (rows == BATCH_SIZE);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package db.migration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.admin.util.TokenHasher;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Fills blacklisted_tokens.token_digest for the rows created before V12. It also replaces their
+ * expiry_at, which was written as the logout time, with the exp claim of the token. These are
+ * tokens this application issued, so the claim is read without checking the signature. A token
+ * whose claim cannot be read is kept for the longest token lifetime after the logout.
+ */
+public class V13__Backfill_blacklisted_token_digest extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final Duration FALLBACK_LIFETIME = Duration.ofDays(7);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, token, created_at FROM blacklisted_tokens WHERE token_digest IS NULL AND id > ? " +
+                        "ORDER BY id LIMIT " + BATCH_SIZE);
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE blacklisted_tokens SET token_digest = ?, expiry_at = ? WHERE id = ?")) {
+
+            long lastId = Long.MIN_VALUE;
+            int rows;
+            do {
+                rows = 0;
+                select.setLong(1, lastId);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        lastId = resultSet.getLong(1);
+                        String token = resultSet.getString(2);
+                        OffsetDateTime createdAt = resultSet.getObject(3, OffsetDateTime.class);
+                        update.setString(1, TokenHasher.hash(token));
+                        update.setObject(2, expiresAt(token, createdAt));
+                        update.setLong(3, lastId);
+                        update.addBatch();
+                        rows++;
+                    }
+                }
+                if (rows > 0) {
+                    update.executeBatch();
+                }
+            } while (rows == BATCH_SIZE);
+        }
+    }
+
+    private OffsetDateTime expiresAt(String token, OffsetDateTime createdAt) {
+        String[] parts = token.split("\\.");
+        if (parts.length == 3) {
+            try {
+                JsonNode exp = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+                if (exp != null && exp.canConvertToLong()) {
+                    return OffsetDateTime.ofInstant(Instant.ofEpochSecond(exp.asLong()), ZoneOffset.UTC);
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                // Not a readable JWT, fall through
+            }
+        }
+        return createdAt.plus(FALLBACK_LIFETIME);
+    }
+}
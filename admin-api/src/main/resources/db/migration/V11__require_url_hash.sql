@@ -0,0 +1,2 @@
+ALTER TABLE url_table
+    ALTER COLUMN url_hash SET NOT NULL;
@@ -0,0 +1,4 @@
+-- Blacklisted tokens are stored as their SHA-256 digest: a full JWT does not fit in VARCHAR(255)
+-- and the raw token should not be kept. V13 fills the column for existing rows.
+ALTER TABLE blacklisted_tokens
+    ADD COLUMN token_digest CHAR(64);
@@ -0,0 +1,11 @@
+ALTER TABLE blacklisted_tokens
+    ALTER COLUMN token_digest SET NOT NULL;
+
+ALTER TABLE blacklisted_tokens
+    ADD CONSTRAINT uc_blacklisted_tokens_token_digest UNIQUE (token_digest);
+
+ALTER TABLE blacklisted_tokens
+    DROP COLUMN token;
+
+-- Lets every instance pick up tokens blacklisted elsewhere since its last refresh
+CREATE INDEX idx_blacklisted_tokens_created_at ON blacklisted_tokens (created_at);
@@ -0,0 +1,11 @@
+-- Stamp embedded in access tokens. It is raised whenever a change must invalidate the tokens
+-- already issued to the user (password change, account status), and security_changed_at lets
+-- every instance find the users whose stamp moved since its last scan.
+ALTER TABLE user_table
+    ADD COLUMN security_version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE user_table
+    ADD COLUMN security_changed_at TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX idx_user_table_security_changed_at ON user_table (security_changed_at)
+    WHERE security_changed_at IS NOT NULL;
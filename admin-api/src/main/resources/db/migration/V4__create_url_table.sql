@@ -1,6 +1,6 @@
 CREATE TABLE url_table
 (
-    id           BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY (INCREMENT BY 50) NOT NULL,
     original_url VARCHAR(255)                            NOT NULL,
     short_url    VARCHAR(255),
     custom_alias VARCHAR(255),
@@ -0,0 +1,84 @@
+-- Single namespace for everything the listener can resolve: generated short codes and custom
+-- aliases share one primary key, so an alias can never shadow a code or another alias.
+-- Written to be rerunnable, since development databases may have applied it by hand before Flyway.
+CREATE TABLE IF NOT EXISTS url_code
+(
+    code       VARCHAR(255)                         NOT NULL,
+    url_id     BIGINT                               NOT NULL,
+    kind       VARCHAR(16)                          NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT now() NOT NULL,
+    CONSTRAINT pk_url_code PRIMARY KEY (code),
+    CONSTRAINT ck_url_code_kind CHECK (kind IN ('SHORT', 'ALIAS', 'LEGACY')),
+    CONSTRAINT FK_URL_CODE_ON_URL FOREIGN KEY (url_id) REFERENCES url_table (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_url_code_url_id ON url_code (url_id);
+
+-- Keeps SHORT and ALIAS rows in step with url_table.short_url and url_table.custom_alias.
+-- LEGACY rows are managed by code migrations and never touched here.
+CREATE OR REPLACE FUNCTION sync_url_code() RETURNS TRIGGER AS
+$$
+DECLARE
+    new_alias VARCHAR(255) := NULLIF(btrim(NEW.custom_alias), '');
+    old_alias VARCHAR(255);
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        old_alias := NULLIF(btrim(OLD.custom_alias), '');
+
+        IF OLD.short_url IS DISTINCT FROM NEW.short_url THEN
+            DELETE FROM url_code WHERE url_id = NEW.id AND kind = 'SHORT';
+        END IF;
+        IF old_alias IS DISTINCT FROM new_alias THEN
+            DELETE FROM url_code WHERE url_id = NEW.id AND kind = 'ALIAS';
+        END IF;
+    END IF;
+
+    IF NEW.short_url IS NOT NULL AND (TG_OP = 'INSERT' OR OLD.short_url IS DISTINCT FROM NEW.short_url) THEN
+        INSERT INTO url_code (code, url_id, kind) VALUES (NEW.short_url, NEW.id, 'SHORT');
+    END IF;
+    IF new_alias IS NOT NULL AND (TG_OP = 'INSERT' OR old_alias IS DISTINCT FROM new_alias) THEN
+        -- Raises unique_violation on pk_url_code when the alias is taken
+        INSERT INTO url_code (code, url_id, kind) VALUES (new_alias, NEW.id, 'ALIAS');
+    END IF;
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_url_table_sync_url_code ON url_table;
+CREATE TRIGGER trg_url_table_sync_url_code
+    AFTER INSERT OR UPDATE OF short_url, custom_alias
+    ON url_table
+    FOR EACH ROW
+EXECUTE FUNCTION sync_url_code();
+
+-- Bulk JPQL updates bypass @UpdateTimestamp; the listener relies on updated_at to find
+-- links changed since its snapshot. Click count updates do not touch it.
+CREATE OR REPLACE FUNCTION touch_url_updated_at() RETURNS TRIGGER AS
+$$
+BEGIN
+    NEW.updated_at := now();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_url_table_touch_updated_at ON url_table;
+CREATE TRIGGER trg_url_table_touch_updated_at
+    BEFORE UPDATE OF original_url, short_url, custom_alias, is_active, is_deleted, valid_since, valid_until
+    ON url_table
+    FOR EACH ROW
+EXECUTE FUNCTION touch_url_updated_at();
+
+-- Backfill existing links. Aliases that collide with an existing code stay unresolvable until renamed.
+INSERT INTO url_code (code, url_id, kind)
+SELECT short_url, id, 'SHORT'
+FROM url_table
+WHERE short_url IS NOT NULL
+ON CONFLICT (code) DO NOTHING;
+
+INSERT INTO url_code (code, url_id, kind)
+SELECT DISTINCT ON (btrim(custom_alias)) btrim(custom_alias), id, 'ALIAS'
+FROM url_table
+WHERE NULLIF(btrim(custom_alias), '') IS NOT NULL
+ORDER BY btrim(custom_alias), id
+ON CONFLICT (code) DO NOTHING;
@@ -0,0 +1,5 @@
+-- The admin api reserves url ids in blocks (UrlIdAllocator): one nextval covers the returned value
+-- and the following ids up to the increment. Rows inserted with the column default still take
+-- a whole block, so they never overlap ids handed out by the application.
+ALTER TABLE url_table
+    ALTER COLUMN id SET INCREMENT BY 50;
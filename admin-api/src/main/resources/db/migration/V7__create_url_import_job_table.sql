@@ -0,0 +1,22 @@
+-- Progress of a streaming URL import. checkpoint_row counts the data rows already handled and is
+-- committed in the same transaction as the URLs of each chunk, so a resumed upload skips exactly
+-- the rows that were written. Rerunnable, like V5.
+CREATE TABLE IF NOT EXISTS url_import_job
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    user_id        BIGINT                                  NOT NULL,
+    format         VARCHAR(16)                             NOT NULL,
+    status         VARCHAR(16)                             NOT NULL,
+    checkpoint_row BIGINT                                  NOT NULL,
+    created_rows   BIGINT                                  NOT NULL,
+    failed_rows    BIGINT                                  NOT NULL,
+    last_error     VARCHAR(1024),
+    created_at     TIMESTAMP WITH TIME ZONE                NOT NULL,
+    updated_at     TIMESTAMP WITH TIME ZONE                NOT NULL,
+    CONSTRAINT pk_url_import_job PRIMARY KEY (id),
+    CONSTRAINT ck_url_import_job_format CHECK (format IN ('CSV', 'NDJSON')),
+    CONSTRAINT ck_url_import_job_status CHECK (status IN ('PENDING', 'RUNNING', 'FAILED', 'COMPLETED')),
+    CONSTRAINT FK_URL_IMPORT_JOB_ON_USER FOREIGN KEY (user_id) REFERENCES user_table (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_url_import_job_user_id ON url_import_job (user_id);
@@ -0,0 +1,23 @@
+-- Indexes for the queries the services actually run, beyond the primary keys and unique
+-- constraints. QueryIndexUsageTest runs EXPLAIN on the repository queries against them.
+
+-- URL listing of a user: offset pages ordered by created_at and keyset pages on (created_at, id),
+-- plus the export, which reads the same order.
+CREATE INDEX idx_url_table_user_deleted_created ON url_table (user_id, is_deleted, created_at, id);
+
+-- listener-api refresh: URLs changed since its last snapshot, and codes created since then.
+CREATE INDEX idx_url_table_updated_at ON url_table (updated_at);
+CREATE INDEX idx_url_code_created_at ON url_code (created_at);
+
+-- Email verification and password reset links look the user up by token. Only users with a
+-- pending link have one, so the partial indexes stay small.
+CREATE INDEX idx_user_table_verification_token ON user_table (verification_token)
+    WHERE verification_token IS NOT NULL;
+CREATE INDEX idx_user_table_reset_password_token ON user_table (reset_password_token)
+    WHERE reset_password_token IS NOT NULL;
+
+-- Refresh tokens are looked up and revoked by email at login and logout.
+CREATE INDEX idx_refresh_tokens_user_email ON refresh_tokens (user_email);
+
+-- Expired blacklist entries are purged by expiry.
+CREATE INDEX idx_blacklisted_tokens_expiry_at ON blacklisted_tokens (expiry_at);
@@ -0,0 +1,7 @@
+-- SHA-256 of the normalized original URL (OriginalUrlHasher), so the duplicate check of URL
+-- creation is one probe of a fixed width index however many links the user has. V10 fills it
+-- for existing rows and V11 makes it mandatory.
+ALTER TABLE url_table
+    ADD COLUMN url_hash CHAR(64);
+
+CREATE INDEX idx_url_table_user_url_hash ON url_table (user_id, url_hash);
@@ -0,0 +1,122 @@
+package com.java.admin.benchmark;
+
+import com.java.admin.config.CustomLogger;
+import com.java.admin.config.JwtPropertiesConfig;
+import com.java.admin.security.JwtService;
+import com.java.admin.usecase.auth.IBlacklistedTokenService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cost of authenticating one request in JwtAuthenticationFilter (extract the username, then
+ * check the token against the user): the previous JwtService, which built the key and parser on
+ * every lookup and parsed the token three times, replayed against the current service with and
+ * without its claims cache. Clients reuse a token for many requests, so each round walks a fixed
+ * set of tokens. Run with ./gradlew benchmark.
+ */
+@Tag("benchmark")
+class JwtVerificationBenchmarkTest {
+
+    private static final String SECRET = "benchmarkSecretKeyForJwtTokenVerificationThatIsLongEnough";
+    private static final int TOKENS = 1_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 100;
+
+    private static final IBlacklistedTokenService NOT_BLACKLISTED = new IBlacklistedTokenService() {
+        @Override
+        public void blacklistToken(String token, OffsetDateTime expiresAt) {
+        }
+
+        @Override
+        public boolean isTokenBlacklisted(String token) {
+            return false;
+        }
+
+        @Override
+        public void cleanupExpiredTokens() {
+        }
+    };
+
+    @Test
+    void compareRebuiltParserAndCachedClaims() {
+        JwtService uncached = new JwtService(NOT_BLACKLISTED, properties(0));
+        JwtService cached = new JwtService(NOT_BLACKLISTED, properties(TOKENS));
+
+        List<UserDetails> users = new ArrayList<>(TOKENS);
+        List<String> tokens = new ArrayList<>(TOKENS);
+        for (int i = 0; i < TOKENS; i++) {
+            UserDetails user = User.withUsername("bench" + i + "@example.com").password("x").build();
+            users.add(user);
+            tokens.add(cached.generateToken(user));
+        }
+
+        Consumer<Integer> previous = i -> {
+            String token = tokens.get(i);
+            String username = legacyExtractAllClaims(token).getSubject();
+            boolean valid = !NOT_BLACKLISTED.isTokenBlacklisted(token)
+                    && legacyExtractAllClaims(token).getSubject().equals(users.get(i).getUsername())
+                    && !legacyExtractAllClaims(token).getExpiration().before(new Date());
+            assertTrue(username != null && valid);
+        };
+        Consumer<Integer> parsedOnce = i -> authenticate(uncached, tokens.get(i), users.get(i));
+        Consumer<Integer> cachedClaims = i -> authenticate(cached, tokens.get(i), users.get(i));
+
+        run(previous, WARMUP_ROUNDS);
+        run(parsedOnce, WARMUP_ROUNDS);
+        run(cachedClaims, WARMUP_ROUNDS);
+
+        long previousNanos = run(previous, MEASURED_ROUNDS);
+        long parsedOnceNanos = run(parsedOnce, MEASURED_ROUNDS);
+        long cachedClaimsNanos = run(cachedClaims, MEASURED_ROUNDS);
+
+        int requests = TOKENS * MEASURED_ROUNDS;
+        CustomLogger.logInfo(JwtVerificationBenchmarkTest.class, String.format(
+                "JWT authentication over %d requests: rebuilt parser %.0f req/s, shared parser %.0f req/s, " +
+                        "cached claims %.0f req/s",
+                requests, requests * 1e9 / previousNanos, requests * 1e9 / parsedOnceNanos,
+                requests * 1e9 / cachedClaimsNanos));
+    }
+
+    private static void authenticate(JwtService jwtService, String token, UserDetails user) {
+        String username = jwtService.extractUsername(token);
+        assertTrue(username != null && jwtService.isTokenValid(token, user));
+    }
+
+    private static long run(Consumer<Integer> authenticate, int rounds) {
+        long started = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < TOKENS; i++) {
+                authenticate.accept(i);
+            }
+        }
+        return System.nanoTime() - started;
+    }
+
+    // The former JwtService.extractAllClaims, key and parser included
+    private static Claims legacyExtractAllClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static JwtPropertiesConfig properties(int claimsCacheSize) {
+        return new JwtPropertiesConfig(SECRET, 604_800_000L, 86_400_000L, claimsCacheSize, Duration.ofMinutes(5),
+                Duration.ofSeconds(5), Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,136 @@
+package com.java.admin.benchmark;
+
+import com.java.admin.config.CustomLogger;
+import com.java.admin.config.ShortCodePropertiesConfig;
+import com.java.admin.dto.url.request.CreateUrlRequestDto;
+import com.java.admin.mapper.url.UrlMapper;
+import com.java.admin.repository.url.UrlIdAllocator;
+import com.java.admin.service.url.UrlServiceImpl;
+import com.java.admin.util.OriginalUrlHasher;
+import com.java.admin.util.ShortCodeCodec;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Creation throughput under concurrent load: the previous flow (load the user, insert to get the
+ * identity id, update the short code) replayed over JDBC against the current single INSERT
+ * through UrlServiceImpl. Every link gets its own user so the per-user duplicate check passes.
+ * Run with ./gradlew benchmark; needs Docker.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "short-code.secret=benchmark-secret"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UrlServiceImpl.class, UrlIdAllocator.class, UrlMapper.class, ShortCodeCodec.class, ShortCodePropertiesConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class UrlCreationBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int WARMUP_CREATIONS = 2_000;
+    private static final int MEASURED_CREATIONS = 10_000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UrlServiceImpl urlService;
+
+    @Autowired
+    private ShortCodeCodec shortCodeCodec;
+
+    private final AtomicInteger nextUser = new AtomicInteger();
+
+    @Test
+    void compareTwoStatementAndSingleInsertCreation() throws Exception {
+        List<Long> userIds = createUsers(2 * (WARMUP_CREATIONS + MEASURED_CREATIONS));
+
+        LongConsumer twoStatements = userId -> {
+            String url = "https://www.example.com/legacy/" + userId;
+            // The former duplicate check, which only filtered on the user
+            jdbcTemplate.queryForList("SELECT * FROM url_table WHERE user_id = ? AND is_deleted = FALSE", userId);
+            jdbcTemplate.queryForMap("SELECT * FROM user_table WHERE id = ?", userId);
+            Long id = jdbcTemplate.queryForObject("""
+                    INSERT INTO url_table (original_url, url_hash, description, user_id, click_count, is_active,
+                                           valid_since, created_at, updated_at, is_deleted)
+                    VALUES (?, ?, 'Benchmark link', ?, 0, TRUE, now(), now(), now(), FALSE)
+                    RETURNING id""", Long.class, url, OriginalUrlHasher.hash(url), userId);
+            jdbcTemplate.update("UPDATE url_table SET short_url = ? WHERE id = ?", shortCodeCodec.encode(id), id);
+        };
+        LongConsumer singleInsert = userId -> urlService.createUrl(new CreateUrlRequestDto(null,
+                "https://www.example.com/articles/" + userId, "Benchmark link",
+                OffsetDateTime.now(), null, true), userId);
+
+        run(userIds, twoStatements, WARMUP_CREATIONS);
+        run(userIds, singleInsert, WARMUP_CREATIONS);
+
+        long twoStatementNanos = run(userIds, twoStatements, MEASURED_CREATIONS);
+        long singleInsertNanos = run(userIds, singleInsert, MEASURED_CREATIONS);
+
+        assertEquals(userIds.size(), jdbcTemplate.queryForObject("SELECT count(*) FROM url_code", Integer.class));
+
+        CustomLogger.logInfo(UrlCreationBenchmarkTest.class, String.format(
+                "URL creation with %d threads over %d links: two statements %.0f links/s, single insert %.0f links/s",
+                THREADS, MEASURED_CREATIONS,
+                MEASURED_CREATIONS * 1e9 / twoStatementNanos, MEASURED_CREATIONS * 1e9 / singleInsertNanos));
+    }
+
+    private long run(List<Long> userIds, LongConsumer create, int creations) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(creations);
+            long started = System.nanoTime();
+            for (int i = 0; i < creations; i++) {
+                long userId = userIds.get(nextUser.getAndIncrement());
+                futures.add(executor.submit(() -> create.accept(userId)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - started;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private List<Long> createUsers(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{"bench" + i, "bench" + i + "@example.com", "+1555" + i});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_table (username, password, email, first_name, last_name, phone_number, is_active,
+                                        is_enabled, is_account_non_expired, is_credentials_non_expired,
+                                        is_account_non_locked, created_at, updated_at, is_deleted)
+                VALUES (?, 'x', ?, 'Bench', 'User', ?, TRUE, TRUE, TRUE, TRUE, TRUE, now(), now(), FALSE)""", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM user_table ORDER BY id", Long.class);
+    }
+}
@@ -0,0 +1,180 @@
+package com.java.admin.integration.repository;
+
+import com.java.admin.dto.url.request.GetUrlsRequestDto;
+import com.java.admin.entity.url.UrlImportStatus;
+import com.java.admin.repository.auth.BlacklistedTokenRepository;
+import com.java.admin.repository.auth.RefreshTokenRepository;
+import com.java.admin.repository.url.UrlImportJobRepository;
+import com.java.admin.repository.url.UrlRepository;
+import com.java.admin.repository.user.UserRepository;
+import com.java.admin.specification.url.UrlCursor;
+import com.java.admin.specification.url.UrlSpecification;
+import com.java.admin.util.OriginalUrlHasher;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.Serial;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs each repository method against the migrated schema, records the SQL Hibernate sends and
+ * checks that EXPLAIN plans it without a sequential scan. Sequential scans are disabled for the
+ * EXPLAIN, so the planner only picks one when no index can serve the query, even on empty tables.
+ * Needs Docker.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.java.admin.integration.repository.QueryIndexUsageTest$RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class QueryIndexUsageTest {
+
+    private static final Long USER_ID = 1L;
+    private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+    // EXPLAIN (GENERIC_PLAN) needs PostgreSQL 16
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UrlRepository urlRepository;
+
+    @Autowired
+    private UrlImportJobRepository urlImportJobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private BlacklistedTokenRepository blacklistedTokenRepository;
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    private static GetUrlsRequestDto listing(String filterBy, String filterValue, String cursor) {
+        return new GetUrlsRequestDto(null, 1, 10, null, false, filterBy, filterValue, null, null, null, cursor, null);
+    }
+
+    @Test
+    void urlRepository_shouldUseIndexes() {
+        assertUsesIndex("existsByUserIdAndUrlHashAndNotDeleted",
+                () -> urlRepository.existsByUserIdAndUrlHashAndNotDeleted(USER_ID, OriginalUrlHasher.hash("https://a.com")));
+        assertUsesIndex("findUrlHashesByUserIdAndUrlHashIn",
+                () -> urlRepository.findUrlHashesByUserIdAndUrlHashIn(USER_ID,
+                        List.of(OriginalUrlHasher.hash("https://a.com"), OriginalUrlHasher.hash("https://b.com"))));
+        assertUsesIndex("streamExportRowsByUserId",
+                () -> urlRepository.streamExportRowsByUserId(USER_ID).close());
+        assertUsesIndex("findByIdAndUserIdAndNotDeleted",
+                () -> urlRepository.findByIdAndUserIdAndNotDeleted(1L, USER_ID));
+        assertUsesIndex("toggleUrlStatus",
+                () -> urlRepository.toggleUrlStatus(1L, USER_ID, false));
+        assertUsesIndex("updateUrl",
+                () -> urlRepository.updateUrl(1L, USER_ID, null, "https://example.com",
+                        OriginalUrlHasher.hash("https://example.com"), null, NOW, null, true));
+        assertUsesIndex("softDeleteUrl",
+                () -> urlRepository.softDeleteUrl(1L, USER_ID));
+        assertUsesIndex("findAll listing page",
+                () -> urlRepository.findAll(new UrlSpecification(listing(null, null, null), USER_ID), PageRequest.of(1, 10)));
+        assertUsesIndex("findAll filtered listing page",
+                () -> urlRepository.findAll(new UrlSpecification(listing("originalUrl", "example", null), USER_ID), PageRequest.of(1, 10)));
+        assertUsesIndex("findBy keyset page",
+                () -> urlRepository.findBy(
+                        new UrlSpecification(listing(null, null, ""), USER_ID, new UrlCursor(NOW, 100L)),
+                        query -> query.limit(11).all()));
+    }
+
+    @Test
+    void urlImportJobRepository_shouldUseIndexes() {
+        assertUsesIndex("findByIdAndUserId",
+                () -> urlImportJobRepository.findByIdAndUserId(1L, USER_ID));
+        assertUsesIndex("claimForResume",
+                () -> urlImportJobRepository.claimForResume(1L, USER_ID, NOW, NOW.minusMinutes(5)));
+        assertUsesIndex("recordProgress",
+                () -> urlImportJobRepository.recordProgress(1L, 10L, 9L, 1L, null, NOW));
+        assertUsesIndex("finish",
+                () -> urlImportJobRepository.finish(1L, UrlImportStatus.COMPLETED, null, NOW));
+    }
+
+    @Test
+    void userRepository_shouldUseIndexes() {
+        assertUsesIndex("findUserEntityById", () -> userRepository.findUserEntityById(USER_ID));
+        assertUsesIndex("findUserEntityByEmail", () -> userRepository.findUserEntityByEmail("user@example.com"));
+        assertUsesIndex("existsUserEntityByEmail", () -> userRepository.existsUserEntityByEmail("user@example.com"));
+        assertUsesIndex("findUserEntityByVerificationToken", () -> userRepository.findUserEntityByVerificationToken("token"));
+        assertUsesIndex("findUserEntityByResetPasswordToken", () -> userRepository.findUserEntityByResetPasswordToken("token"));
+    }
+
+    @Test
+    void tokenRepositories_shouldUseIndexes() {
+        assertUsesIndex("findByToken", () -> refreshTokenRepository.findByToken("token"));
+        assertUsesIndex("findByUserEmail", () -> refreshTokenRepository.findByUserEmail("user@example.com"));
+        assertUsesIndex("deleteByUserEmail", () -> refreshTokenRepository.deleteByUserEmail("user@example.com"));
+        assertUsesIndex("findByExpiryAtAfter", () -> blacklistedTokenRepository.findByExpiryAtAfter(NOW));
+        assertUsesIndex("findByCreatedAtGreaterThanEqualAndExpiryAtAfter",
+                () -> blacklistedTokenRepository.findByCreatedAtGreaterThanEqualAndExpiryAtAfter(NOW, NOW));
+        assertUsesIndex("deleteExpiredBatch", () -> blacklistedTokenRepository.deleteExpiredBatch(NOW, 1_000));
+    }
+
+    private void assertUsesIndex(String method, Runnable call) {
+        RecordingStatementInspector.STATEMENTS.clear();
+        call.run();
+        List<String> statements = new ArrayList<>(RecordingStatementInspector.STATEMENTS);
+        assertFalse(statements.isEmpty(), method + " sent no SQL");
+
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        for (String sql : statements) {
+            String plan = jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numberParameters(sql), String.class)
+                    .stream()
+                    .collect(Collectors.joining("\n"));
+            assertFalse(plan.contains("Seq Scan"), method + " scans a whole table:\n" + sql + "\n" + plan);
+            assertTrue(plan.contains("Index"), method + " uses no index:\n" + sql + "\n" + plan);
+        }
+    }
+
+    // JDBC placeholders to the $n form EXPLAIN (GENERIC_PLAN) accepts
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package com.java.admin.unit.controller.url;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.admin.config.BulkUrlPropertiesConfig;
 import com.java.admin.constant.ApiUrlEndpoints;
 import com.java.admin.controller.url.UrlController;
 import com.java.admin.dto.ApiPaginationResponse;
@@ -8,11 +9,15 @@ import com.java.admin.dto.url.request.CreateUrlRequestDto;
 import com.java.admin.dto.url.request.GetUrlsRequestDto;
 import com.java.admin.dto.url.request.PatchUrlRequestDto;
 import com.java.admin.dto.url.request.PutUrlRequestDto;
+import com.java.admin.dto.ApiError;
+import com.java.admin.dto.url.response.BulkCreateUrlItemResponseDto;
+import com.java.admin.dto.url.response.BulkCreateUrlResponseDto;
 import com.java.admin.dto.url.response.CreateUrlResponseDto;
 import com.java.admin.dto.url.response.DeleteUrlResponseDto;
 import com.java.admin.dto.url.response.GetUrlsResponseDto;
 import com.java.admin.dto.url.response.PatchUrlResponseDto;
 import com.java.admin.dto.url.response.PutUrlResponseDto;
+import com.java.admin.usecase.url.IUrlBulkService;
 import com.java.admin.usecase.url.IUrlService;
 import com.java.admin.security.CustomAuthUser;
 import org.jetbrains.annotations.NotNull;
@@ -21,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
@@ -30,8 +36,12 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -59,6 +69,15 @@ class UrlControllerTest {
     @Mock
     private IUrlService urlService;
 
+    @Mock
+    private IUrlBulkService urlBulkService;
+
+    @Spy
+    private ObjectMapper controllerObjectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Spy
+    private BulkUrlPropertiesConfig bulkUrlPropertiesConfig = new BulkUrlPropertiesConfig();
+
     @InjectMocks
     private UrlController urlController;
 
@@ -122,6 +141,65 @@ class UrlControllerTest {
         verify(urlService, times(1)).createUrl(any(CreateUrlRequestDto.class), eq(VALID_USER_ID));
     }
 
+    @Test
+    void createShortUrls_shouldReturnCreated_whenAllItemsAreCreated() throws Exception {
+        // Arrange
+        CreateUrlRequestDto requestDto = new CreateUrlRequestDto(
+                VALID_CUSTOM_ALIAS, VALID_URL, VALID_DESCRIPTION, OffsetDateTime.now(), null, true);
+        CreateUrlResponseDto responseDto = new CreateUrlResponseDto(
+                VALID_URL_ID, VALID_SHORT_URL, VALID_URL, VALID_DESCRIPTION, true, 0L, null, null);
+        BulkCreateUrlResponseDto bulkResponseDto = new BulkCreateUrlResponseDto(1, 1, 0, false,
+                List.of(new BulkCreateUrlItemResponseDto(0L, true, responseDto, List.of())));
+
+        when(urlBulkService.createUrls(any(), eq(VALID_USER_ID))).thenReturn(bulkResponseDto);
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(post(ApiUrlEndpoints.BASE_PATH + "/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(requestDto)))
+                .principal(authentication));
+
+        // Assert
+        resultActions
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.created").value(1))
+                .andExpect(jsonPath("$.data.items[0].url.shortUrl").value(VALID_SHORT_URL));
+    }
+
+    @Test
+    void createShortUrlsFromStream_shouldReadEachLine_andReturnMultiStatusOnFailures() throws Exception {
+        // Arrange
+        CreateUrlRequestDto requestDto = new CreateUrlRequestDto(
+                VALID_CUSTOM_ALIAS, VALID_URL, VALID_DESCRIPTION, OffsetDateTime.now(), null, true);
+        String body = objectMapper.writeValueAsString(requestDto) + "\n\nnot json\n";
+        List<CreateUrlRequestDto> received = new ArrayList<>();
+        BulkCreateUrlResponseDto bulkResponseDto = new BulkCreateUrlResponseDto(2, 1, 1, false, List.of(
+                new BulkCreateUrlItemResponseDto(0L, true, null, List.of()),
+                new BulkCreateUrlItemResponseDto(1L, false, null, List.of(new ApiError(400, "Item is not a valid URL request",
+                        "UrlInvalidItemException")))));
+
+        when(urlBulkService.createUrls(any(), eq(VALID_USER_ID))).thenAnswer(invocation -> {
+            invocation.<Iterator<CreateUrlRequestDto>>getArgument(0).forEachRemaining(received::add);
+            return bulkResponseDto;
+        });
+
+        // Act
+        ResultActions resultActions = mockMvc.perform(post(ApiUrlEndpoints.BASE_PATH + "/bulk")
+                .contentType("application/x-ndjson")
+                .content(body)
+                .principal(authentication));
+
+        // Assert
+        resultActions
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.data.failed").value(1));
+        assertEquals(2, received.size());
+        assertEquals(VALID_URL, received.get(0).url());
+        assertNull(received.get(1));
+    }
+
     @Test
     void getAllUrlsByUserId_shouldReturnOk() throws Exception {
         // Arrange
@@ -135,6 +213,8 @@ class UrlControllerTest {
                 null,
                 null,
                 null,
+                null,
+                null,
                 null);
 
         ApiPaginationResponse paginationResponse = getApiPaginationResponse();
@@ -178,7 +258,7 @@ class UrlControllerTest {
         List<GetUrlsResponseDto> urlsList = List.of(responseDto);
 
         return new ApiPaginationResponse(
-                1, // totalElements
+                1L, // totalElements
                 1, // totalPages
                 0, // pageNumber
                 10, // pageSize
@@ -186,6 +266,7 @@ class UrlControllerTest {
                 true, // isFirstPage
                 false, // hasNextPage
                 false, // hasPreviousPage
+                null, // nextCursor
                 urlsList // data
         );
     }
@@ -1,10 +1,12 @@
 package com.java.admin.unit.mapper.url;
 
+import com.java.admin.dto.url.request.CreateUrlRequestDto;
 import com.java.admin.dto.url.response.CreateUrlResponseDto;
 import com.java.admin.dto.url.response.PatchUrlResponseDto;
 import com.java.admin.dto.url.response.PutUrlResponseDto;
 import com.java.admin.entity.url.UrlEntity;
 import com.java.admin.mapper.url.UrlMapper;
+import com.java.admin.util.OriginalUrlHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -51,6 +53,37 @@ class UrlMapperTest {
         urlEntity.setValidUntil(VALID_UNTIL);
     }
 
+    @Test
+    @DisplayName("Should map CreateUrlRequestDto to a new UrlEntity")
+    void toEntity_shouldMapCorrectly_whenValidRequest() {
+        // Arrange
+        CreateUrlRequestDto request = new CreateUrlRequestDto(
+                VALID_CUSTOM_ALIAS, VALID_ORIGINAL_URL, VALID_DESCRIPTION, VALID_SINCE, VALID_UNTIL, VALID_ACTIVE);
+
+        // Act
+        UrlEntity result = urlMapper.toEntity(request);
+
+        // Assert
+        assertNotNull(result);
+        assertNull(result.getId());
+        assertNull(result.getShortUrl());
+        assertEquals(VALID_ORIGINAL_URL, result.getOriginalUrl());
+        assertEquals(OriginalUrlHasher.hash(VALID_ORIGINAL_URL), result.getUrlHash());
+        assertEquals(VALID_DESCRIPTION, result.getDescription());
+        assertEquals(VALID_ACTIVE, result.isActive());
+        assertEquals(0L, result.getClickCount());
+        assertEquals(VALID_SINCE, result.getValidSince());
+        assertEquals(VALID_UNTIL, result.getValidUntil());
+        assertTrue(result.isNew());
+    }
+
+    @Test
+    @DisplayName("Should return null when CreateUrlRequestDto is null")
+    void toEntity_shouldReturnNull_whenRequestIsNull() {
+        // Act & Assert
+        assertNull(urlMapper.toEntity(null));
+    }
+
     @Test
     @DisplayName("Should map UrlEntity to CreateUrlResponseDto correctly")
     void toResponseDto_shouldMapCorrectly_whenValidUrlEntity() {
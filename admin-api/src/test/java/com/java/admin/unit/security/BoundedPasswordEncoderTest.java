@@ -0,0 +1,108 @@
+package com.java.admin.unit.security;
+
+import com.java.admin.exception.auth.AuthException;
+import com.java.admin.security.BoundedPasswordEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedPasswordEncoderTest {
+
+    private static final String RAW_PASSWORD = "password123";
+    private static final String ENCODED_PASSWORD = "$2a$10$encoded";
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private ThreadPoolExecutor executor;
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        boundedPasswordEncoder = new BoundedPasswordEncoder(delegate, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void encode_shouldRunDelegateOnExecutor() {
+        // Arrange
+        when(delegate.encode(RAW_PASSWORD)).thenAnswer(invocation -> Thread.currentThread().getName());
+
+        // Act
+        String result = boundedPasswordEncoder.encode(RAW_PASSWORD);
+
+        // Assert
+        assertNotEquals(Thread.currentThread().getName(), result);
+    }
+
+    @Test
+    void matches_shouldReturnDelegateResult() {
+        // Arrange
+        when(delegate.matches(RAW_PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+
+        // Act
+        boolean result = boundedPasswordEncoder.matches(RAW_PASSWORD, ENCODED_PASSWORD);
+
+        // Assert
+        assertTrue(result);
+    }
+
+    @Test
+    void matches_shouldRethrowDelegateException() {
+        // Arrange
+        when(delegate.matches(RAW_PASSWORD, ENCODED_PASSWORD)).thenThrow(new IllegalArgumentException("bad hash"));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> boundedPasswordEncoder.matches(RAW_PASSWORD, ENCODED_PASSWORD));
+
+        assertEquals("bad hash", exception.getMessage());
+    }
+
+    @Test
+    void matches_shouldThrowAuthException_whenQueueIsFull() throws InterruptedException {
+        // Arrange
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        running.await();
+        executor.execute(() -> awaitQuietly(release));
+
+        // Act & Assert
+        AuthException exception = assertThrows(AuthException.class,
+                () -> boundedPasswordEncoder.matches(RAW_PASSWORD, ENCODED_PASSWORD));
+
+        assertEquals(AuthException.PASSWORD_HASHING_BUSY_CODE, exception.getErrorCode());
+        verifyNoInteractions(delegate);
+        release.countDown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.java.admin.unit.security;
+
+import com.java.admin.security.CalibratedPasswordEncoder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalibratedPasswordEncoderTest {
+
+    @Test
+    void calibrate_shouldStayWithinStrengthRange() {
+        // Act
+        CalibratedPasswordEncoder encoder = CalibratedPasswordEncoder.calibrate(Duration.ofSeconds(10), 4, 5);
+
+        // Assert
+        assertEquals(5, encoder.getStrength());
+        assertTrue(encoder.matches("password123", encoder.encode("password123")));
+    }
+
+    @Test
+    void calibrate_shouldKeepMinStrength_whenBudgetIsTooSmall() {
+        // Act
+        CalibratedPasswordEncoder encoder = CalibratedPasswordEncoder.calibrate(Duration.ZERO, 4, 6);
+
+        // Assert
+        assertEquals(4, encoder.getStrength());
+        assertTrue(encoder.encode("password123").startsWith("$2a$04$"));
+    }
+
+    @Test
+    void upgradeEncoding_shouldBeTrue_whenStoredStrengthDiffers() {
+        // Arrange
+        CalibratedPasswordEncoder encoder = CalibratedPasswordEncoder.fixed(5);
+
+        // Act & Assert
+        assertTrue(encoder.upgradeEncoding(CalibratedPasswordEncoder.fixed(4).encode("password123")));
+        assertTrue(encoder.upgradeEncoding(CalibratedPasswordEncoder.fixed(6).encode("password123")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password123")));
+        assertFalse(encoder.upgradeEncoding(null));
+        assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+    }
+}
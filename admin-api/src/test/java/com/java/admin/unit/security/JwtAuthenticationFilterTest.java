@@ -1,7 +1,9 @@
 package com.java.admin.unit.security;
 
+import com.java.admin.security.CustomAuthUser;
 import com.java.admin.security.JwtAuthenticationFilter;
 import com.java.admin.security.JwtService;
+import com.java.admin.security.UserSecurityVersions;
 import com.java.admin.service.auth.UserDetailServiceImpl;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,6 +26,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,6 +40,9 @@ class JwtAuthenticationFilterTest {
     @Mock
     private UserDetailServiceImpl userDetailsService;
 
+    @Mock
+    private UserSecurityVersions userSecurityVersions;
+
     @Mock
     private HttpServletResponse response;
 
@@ -152,6 +158,51 @@ class JwtAuthenticationFilterTest {
         verify(securityContext).setAuthentication(any());
     }
 
+    @Test
+    @DisplayName("Should build the principal from the token when its security version is current")
+    void doFilterInternal_shouldNotLoadUser_whenTokenPrincipalIsCurrent() throws ServletException, IOException {
+        // Arrange
+        CustomAuthUser principal = new CustomAuthUser(1L, TEST_EMAIL, "", true, true, true, true,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")), 3);
+        request.addHeader("Authorization", BEARER_TOKEN);
+        when(jwtService.extractUsername(VALID_TOKEN)).thenReturn(TEST_EMAIL);
+        when(securityContext.getAuthentication()).thenReturn(null);
+        when(jwtService.extractPrincipal(VALID_TOKEN)).thenReturn(Optional.of(principal));
+        when(userSecurityVersions.isCurrent(1L, 3)).thenReturn(true);
+        when(jwtService.isTokenValid(VALID_TOKEN, principal)).thenReturn(true);
+
+        // Act
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+        // Assert
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(userDetailsService);
+        verify(securityContext).setAuthentication(any());
+    }
+
+    @Test
+    @DisplayName("Should load the user when the token security version is outdated")
+    void doFilterInternal_shouldLoadUser_whenTokenSecurityVersionIsOutdated() throws ServletException, IOException {
+        // Arrange
+        CustomAuthUser principal = new CustomAuthUser(1L, TEST_EMAIL, "", true, true, true, true,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")), 3);
+        request.addHeader("Authorization", BEARER_TOKEN);
+        when(jwtService.extractUsername(VALID_TOKEN)).thenReturn(TEST_EMAIL);
+        when(securityContext.getAuthentication()).thenReturn(null);
+        when(jwtService.extractPrincipal(VALID_TOKEN)).thenReturn(Optional.of(principal));
+        when(userSecurityVersions.isCurrent(1L, 3)).thenReturn(false);
+        when(userDetailsService.loadUserByUsername(TEST_EMAIL)).thenReturn(userDetails);
+        when(jwtService.isTokenValid(VALID_TOKEN, userDetails)).thenReturn(false);
+
+        // Act
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+        // Assert
+        verify(filterChain).doFilter(request, response);
+        verify(userDetailsService).loadUserByUsername(TEST_EMAIL);
+        verify(securityContext, never()).setAuthentication(any());
+    }
+
     @Test
     @DisplayName("Should not set authentication when token is invalid")
     void doFilterInternal_shouldNotSetAuthentication_whenTokenIsInvalid() throws ServletException, IOException {
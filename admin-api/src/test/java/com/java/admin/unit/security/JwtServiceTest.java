@@ -1,6 +1,7 @@
 package com.java.admin.unit.security;
 
 import com.java.admin.config.JwtPropertiesConfig;
+import com.java.admin.security.CustomAuthUser;
 import com.java.admin.security.JwtService;
 import com.java.admin.usecase.auth.IBlacklistedTokenService;
 import io.jsonwebtoken.Claims;
@@ -12,15 +13,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,7 +41,6 @@ class JwtServiceTest {
     @Mock
     private UserDetails userDetails;
 
-    @InjectMocks
     private JwtService jwtService;
 
     private static final String TEST_USERNAME = "testuser";
@@ -50,8 +53,12 @@ class JwtServiceTest {
     void setUp() {
         lenient().when(jwtPropertiesConfig.getJwtSecret()).thenReturn(TEST_SECRET);
         lenient().when(jwtPropertiesConfig.getJwtExpiration()).thenReturn(TEST_EXPIRATION);
+        lenient().when(jwtPropertiesConfig.getClaimsCacheSize()).thenReturn(100);
+        lenient().when(jwtPropertiesConfig.getClaimsCacheTtl()).thenReturn(Duration.ofMinutes(5));
         lenient().when(userDetails.getUsername()).thenReturn(TEST_USERNAME);
 
+        jwtService = new JwtService(blacklistedTokenService, jwtPropertiesConfig);
+
         // Crear tokens para pruebas
         Key signingKey = Keys.hmacShaKeyFor(TEST_SECRET.getBytes());
 
@@ -220,4 +227,107 @@ class JwtServiceTest {
                 jwtService.extractClaim(expiredToken, Claims::getSubject)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should reuse the verified claims of a token")
+    void extractClaim_shouldReuseClaims_whenTokenWasVerifiedBefore() {
+        // Act
+        Claims first = jwtService.extractClaim(validToken, claims -> claims);
+        Claims second = jwtService.extractClaim(validToken, claims -> claims);
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Should verify the token every time when the claims cache is disabled")
+    void extractClaim_shouldParseEveryTime_whenCacheIsDisabled() {
+        // Arrange
+        when(jwtPropertiesConfig.getClaimsCacheSize()).thenReturn(0);
+        jwtService = new JwtService(blacklistedTokenService, jwtPropertiesConfig);
+
+        // Act
+        Claims first = jwtService.extractClaim(validToken, claims -> claims);
+        Claims second = jwtService.extractClaim(validToken, claims -> claims);
+
+        // Assert
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("Should reject a tampered token after the original was cached")
+    void extractUsername_shouldThrowException_whenSignatureIsTampered() {
+        // Arrange
+        jwtService.extractUsername(validToken);
+        String otherToken = Jwts.builder()
+                .setSubject(TEST_USERNAME)
+                .signWith(Keys.hmacShaKeyFor("anotherSecretKeyForJwtTokenGenerationThatIsLongEnough".getBytes()),
+                        SignatureAlgorithm.HS256)
+                .compact();
+        String tamperedToken = validToken.substring(0, validToken.lastIndexOf('.'))
+                + otherToken.substring(otherToken.lastIndexOf('.'));
+
+        // Act & Assert
+        assertThrows(Exception.class, () -> jwtService.extractUsername(tamperedToken));
+    }
+
+    @Test
+    @DisplayName("Should not cache claims past the token expiration")
+    void extractClaim_shouldThrowExpiredJwtException_whenCachedTokenHasExpired() throws InterruptedException {
+        // Arrange
+        String shortLivedToken = Jwts.builder()
+                .setSubject(TEST_USERNAME)
+                .setExpiration(new Date(System.currentTimeMillis() + 1000))
+                .signWith(Keys.hmacShaKeyFor(TEST_SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+        assertEquals(TEST_USERNAME, jwtService.extractUsername(shortLivedToken));
+        Thread.sleep(1100);
+
+        // Act & Assert
+        assertThrows(ExpiredJwtException.class, () -> jwtService.extractUsername(shortLivedToken));
+    }
+
+    private static CustomAuthUser customAuthUser(long securityVersion) {
+        return new CustomAuthUser(42L, TEST_USERNAME, "encoded", true, true, true, false,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")), securityVersion);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the principal from the claims of its token")
+    void extractPrincipal_shouldReturnPrincipal_whenTokenWasIssuedForCustomAuthUser() {
+        // Arrange
+        String token = jwtService.generateToken(customAuthUser(3));
+
+        // Act
+        Optional<CustomAuthUser> principal = jwtService.extractPrincipal(token);
+
+        // Assert
+        assertTrue(principal.isPresent());
+        assertEquals(42L, principal.get().getId());
+        assertEquals(TEST_USERNAME, principal.get().getUsername());
+        assertEquals(3L, principal.get().getSecurityVersion());
+        assertTrue(principal.get().isEnabled());
+        assertFalse(principal.get().isAccountNonLocked());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_USER")), List.copyOf(principal.get().getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("Should not rebuild a principal from a token without user claims")
+    void extractPrincipal_shouldReturnEmpty_whenTokenHasNoUserClaims() {
+        // Act & Assert
+        assertTrue(jwtService.extractPrincipal(validToken).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return false when the token security version is outdated")
+    void isTokenValid_shouldReturnFalse_whenSecurityVersionChanged() {
+        // Arrange
+        String token = jwtService.generateToken(customAuthUser(3));
+        when(blacklistedTokenService.isTokenBlacklisted(token)).thenReturn(false);
+
+        // Act & Assert
+        assertTrue(jwtService.isTokenValid(token, customAuthUser(3)));
+        assertFalse(jwtService.isTokenValid(token, customAuthUser(4)));
+    }
+}
@@ -0,0 +1,88 @@
+package com.java.admin.unit.security;
+
+import com.java.admin.config.JwtPropertiesConfig;
+import com.java.admin.dto.auth.response.UserSecurityVersionDto;
+import com.java.admin.event.UserChangedEvent;
+import com.java.admin.repository.user.UserRepository;
+import com.java.admin.security.UserSecurityVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSecurityVersionsTest {
+
+    private static final long TOKEN_LIFETIME_MILLIS = 86_400_000L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private UserSecurityVersions userSecurityVersions;
+
+    @BeforeEach
+    void setUp() {
+        JwtPropertiesConfig jwtPropertiesConfig = new JwtPropertiesConfig();
+        jwtPropertiesConfig.setJwtExpiration(TOKEN_LIFETIME_MILLIS);
+        userSecurityVersions = new UserSecurityVersions(userRepository, jwtPropertiesConfig, applicationEventPublisher);
+    }
+
+    @Test
+    void load_shouldReadChangesWithinTokenLifetime() {
+        // Arrange
+        when(userRepository.findSecurityVersionsChangedSince(any(OffsetDateTime.class)))
+                .thenReturn(List.of(new UserSecurityVersionDto(1L, "user1@example.com", 2, OffsetDateTime.now())));
+
+        // Act
+        userSecurityVersions.load();
+
+        // Assert
+        assertTrue(userSecurityVersions.isCurrent(1L, 2));
+        assertFalse(userSecurityVersions.isCurrent(1L, 1));
+        assertTrue(userSecurityVersions.isCurrent(2L, 0));
+        verify(userRepository).findSecurityVersionsChangedSince(argThat(since ->
+                since.isBefore(OffsetDateTime.now().minusHours(23))));
+    }
+
+    @Test
+    void record_shouldKeepHighestVersion_andPublishOnlyNewerVersions() {
+        // Act
+        userSecurityVersions.record(new UserSecurityVersionDto(1L, "user1@example.com", 3, OffsetDateTime.now()));
+        userSecurityVersions.record(new UserSecurityVersionDto(1L, "user1@example.com", 2, OffsetDateTime.now()));
+        userSecurityVersions.record(new UserSecurityVersionDto(1L, "user1@example.com", 3, OffsetDateTime.now()));
+
+        // Assert
+        assertTrue(userSecurityVersions.isCurrent(1L, 3));
+        verify(applicationEventPublisher, times(1)).publishEvent(new UserChangedEvent(1L, "user1@example.com"));
+    }
+
+    @Test
+    void refresh_shouldAddNewChanges_andForgetChangesOlderThanTokenLifetime() {
+        // Arrange
+        when(userRepository.findSecurityVersionsChangedSince(any(OffsetDateTime.class)))
+                .thenReturn(List.of(new UserSecurityVersionDto(1L, "user1@example.com", 1, OffsetDateTime.now().minusDays(2))))
+                .thenReturn(List.of(new UserSecurityVersionDto(2L, "user2@example.com", 5, OffsetDateTime.now())));
+        userSecurityVersions.load();
+        assertFalse(userSecurityVersions.isCurrent(1L, 0));
+
+        // Act
+        userSecurityVersions.refresh();
+
+        // Assert
+        assertTrue(userSecurityVersions.isCurrent(1L, 0));
+        assertFalse(userSecurityVersions.isCurrent(2L, 4));
+    }
+}
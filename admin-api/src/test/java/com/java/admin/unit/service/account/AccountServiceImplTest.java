@@ -15,11 +15,13 @@ import com.java.admin.dto.account.response.ResetPasswordResponseDto;
 import com.java.admin.dto.account.response.ResetPasswordTokenResponseDto;
 import com.java.admin.dto.account.response.ValidateCodeAccountResponseDto;
 import com.java.admin.dto.account.response.VerifyAccountResponseDto;
+import com.java.admin.dto.auth.response.UserSecurityVersionDto;
 import com.java.admin.entity.user.UserEntity;
 import com.java.admin.exception.account.AccountException;
 import com.java.admin.mapper.account.AccountMapper;
 import com.java.admin.repository.user.UserRepository;
 import com.java.admin.security.AuthProvider;
+import com.java.admin.security.UserSecurityVersions;
 import com.java.admin.service.account.AccountServiceImpl;
 import com.java.admin.util.SendMailUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -55,6 +57,9 @@ class AccountServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserSecurityVersions userSecurityVersions;
+
     @InjectMocks
     private AccountServiceImpl accountService;
 
@@ -196,6 +201,8 @@ class AccountServiceImplTest {
         assertNotNull(response);
         assertTrue(response.message().contains("has been successfully validated and enabled"));
         verify(userRepository).save(any(UserEntity.class));
+        assertEquals(1L, userEntity.getSecurityVersion());
+        verify(userSecurityVersions).record(any(UserSecurityVersionDto.class));
         verify(passwordEncoder).matches(validateCodeRequest.password(), userEntity.getPassword());
     }
 
@@ -355,6 +362,9 @@ class AccountServiceImplTest {
         assertNotNull(response);
         assertTrue(response.message().contains("Password changed successfully"));
         verify(userRepository).save(any(UserEntity.class));
+        assertEquals(1L, userEntity.getSecurityVersion());
+        assertNotNull(userEntity.getSecurityChangedAt());
+        verify(userSecurityVersions).record(any(UserSecurityVersionDto.class));
         verify(passwordEncoder).encode(changePasswordRequest.newPassword());
     }
 
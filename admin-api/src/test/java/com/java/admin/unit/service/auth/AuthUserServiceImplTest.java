@@ -27,6 +27,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -148,8 +150,11 @@ class AuthUserServiceImplTest {
     @Test
     void logout_shouldReturnSuccessMessage_whenValidToken() {
         // Arrange
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        OffsetDateTime expiresAt = OffsetDateTime.ofInstant(expiration.toInstant(), ZoneOffset.UTC);
+        when(jwtService.extractExpiration(VALID_TOKEN)).thenReturn(expiration);
         when(jwtService.extractUsername(VALID_TOKEN)).thenReturn(VALID_EMAIL);
-        doNothing().when(blacklistedTokenService).blacklistToken(VALID_TOKEN);
+        doNothing().when(blacklistedTokenService).blacklistToken(VALID_TOKEN, expiresAt);
         doNothing().when(refreshTokenService).deleteByUserEmail(VALID_EMAIL);
 
         // Act
@@ -158,7 +163,7 @@ class AuthUserServiceImplTest {
         // Assert
         assertNotNull(response);
         assertTrue(response.message().contains("logged out successfully"));
-        verify(blacklistedTokenService).blacklistToken(VALID_TOKEN);
+        verify(blacklistedTokenService).blacklistToken(VALID_TOKEN, expiresAt);
         verify(jwtService).extractUsername(VALID_TOKEN);
         verify(refreshTokenService).deleteByUserEmail(VALID_EMAIL);
     }
@@ -175,7 +180,7 @@ class AuthUserServiceImplTest {
         assertEquals(AuthException.INVALID_TOKEN_CODE, exception.getErrorCode());
         assertEquals(AuthException.INVALID_TOKEN_MESSAGE, exception.getErrorMessage());
         assertEquals(AuthException.INVALID_TOKEN_CAUSE, exception.getErrorCause());
-        verify(blacklistedTokenService, never()).blacklistToken(anyString());
+        verify(blacklistedTokenService, never()).blacklistToken(anyString(), any());
         verify(refreshTokenService, never()).deleteByUserEmail(anyString());
     }
 
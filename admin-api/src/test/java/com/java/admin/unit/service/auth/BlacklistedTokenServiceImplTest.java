@@ -1,20 +1,25 @@
 package com.java.admin.unit.service.auth;
 
+import com.java.admin.config.BlacklistPropertiesConfig;
 import com.java.admin.entity.auth.BlacklistedTokenEntity;
 import com.java.admin.repository.auth.BlacklistedTokenRepository;
 import com.java.admin.service.auth.BlacklistedTokenServiceImpl;
+import com.java.admin.util.TokenHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,85 +28,117 @@ class BlacklistedTokenServiceImplTest {
     @Mock
     private BlacklistedTokenRepository blacklistedTokenRepository;
 
-    @InjectMocks
     private BlacklistedTokenServiceImpl blacklistedTokenService;
 
     private static final String VALID_TOKEN = "valid.jwt.token";
     private static final String BLACKLISTED_TOKEN = "blacklisted.jwt.token";
+    private static final int PURGE_BATCH_SIZE = 2;
 
     @BeforeEach
     void setUp() {
-        // Setup common test data if needed
+        blacklistedTokenService = new BlacklistedTokenServiceImpl(blacklistedTokenRepository,
+                new BlacklistPropertiesConfig(Duration.ofSeconds(5), Duration.ofMinutes(1), Duration.ofMinutes(15),
+                        PURGE_BATCH_SIZE));
+    }
+
+    private static BlacklistedTokenEntity entity(String token, OffsetDateTime expiryAt) {
+        BlacklistedTokenEntity blacklistedTokenEntity = new BlacklistedTokenEntity();
+        blacklistedTokenEntity.setTokenDigest(TokenHasher.hash(token));
+        blacklistedTokenEntity.setExpiryAt(expiryAt);
+        return blacklistedTokenEntity;
     }
 
     @Test
-    void blacklistToken_shouldSaveTokenEntity_whenValidTokenProvided() {
+    void blacklistToken_shouldSaveDigestWithTokenExpiry_andBlacklistInMemory() {
         // Arrange
+        OffsetDateTime expiresAt = OffsetDateTime.now().plusHours(1);
         ArgumentCaptor<BlacklistedTokenEntity> entityCaptor = ArgumentCaptor.forClass(BlacklistedTokenEntity.class);
 
         // Act
-        blacklistedTokenService.blacklistToken(VALID_TOKEN);
+        blacklistedTokenService.blacklistToken(VALID_TOKEN, expiresAt);
 
         // Assert
         verify(blacklistedTokenRepository).save(entityCaptor.capture());
         BlacklistedTokenEntity savedEntity = entityCaptor.getValue();
+        assertEquals(TokenHasher.hash(VALID_TOKEN), savedEntity.getTokenDigest());
+        assertEquals(expiresAt, savedEntity.getExpiryAt());
+        assertTrue(blacklistedTokenService.isTokenBlacklisted(VALID_TOKEN));
+        verifyNoMoreInteractions(blacklistedTokenRepository);
+    }
+
+    @Test
+    void blacklistToken_shouldSkipToken_whenAlreadyExpired() {
+        // Act
+        blacklistedTokenService.blacklistToken(VALID_TOKEN, OffsetDateTime.now().minusMinutes(1));
 
-        assertNotNull(savedEntity);
-        assertEquals(VALID_TOKEN, savedEntity.getToken());
-        assertNotNull(savedEntity.getExpiryAt());
-        assertTrue(savedEntity.getExpiryAt().isBefore(OffsetDateTime.now().plusMinutes(1)));
-        assertTrue(savedEntity.getExpiryAt().isAfter(OffsetDateTime.now().minusMinutes(1)));
+        // Assert
+        assertFalse(blacklistedTokenService.isTokenBlacklisted(VALID_TOKEN));
+        verifyNoInteractions(blacklistedTokenRepository);
     }
 
     @Test
-    void isTokenBlacklisted_shouldReturnTrue_whenTokenIsBlacklisted() {
+    void blacklistToken_shouldKeepTokenBlacklisted_whenAnotherInstanceSavedItFirst() {
         // Arrange
-        when(blacklistedTokenRepository.existsByToken(BLACKLISTED_TOKEN)).thenReturn(true);
+        when(blacklistedTokenRepository.save(any(BlacklistedTokenEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
 
         // Act
-        boolean result = blacklistedTokenService.isTokenBlacklisted(BLACKLISTED_TOKEN);
+        blacklistedTokenService.blacklistToken(VALID_TOKEN, OffsetDateTime.now().plusHours(1));
 
         // Assert
-        assertTrue(result);
-        verify(blacklistedTokenRepository).existsByToken(BLACKLISTED_TOKEN);
+        assertTrue(blacklistedTokenService.isTokenBlacklisted(VALID_TOKEN));
     }
 
     @Test
-    void isTokenBlacklisted_shouldReturnFalse_whenTokenIsNotBlacklisted() {
+    void load_shouldBlacklistPersistedTokens() {
         // Arrange
-        when(blacklistedTokenRepository.existsByToken(VALID_TOKEN)).thenReturn(false);
+        when(blacklistedTokenRepository.findByExpiryAtAfter(any(OffsetDateTime.class)))
+                .thenReturn(List.of(entity(BLACKLISTED_TOKEN, OffsetDateTime.now().plusHours(1))));
 
         // Act
-        boolean result = blacklistedTokenService.isTokenBlacklisted(VALID_TOKEN);
+        blacklistedTokenService.load();
 
         // Assert
-        assertFalse(result);
-        verify(blacklistedTokenRepository).existsByToken(VALID_TOKEN);
+        assertTrue(blacklistedTokenService.isTokenBlacklisted(BLACKLISTED_TOKEN));
+        assertFalse(blacklistedTokenService.isTokenBlacklisted(VALID_TOKEN));
     }
 
     @Test
-    void cleanupExpiredTokens_shouldCallRepository_whenInvoked() {
+    void refresh_shouldAddTokensBlacklistedSinceLastScan() {
         // Arrange
-        ArgumentCaptor<OffsetDateTime> dateCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+        when(blacklistedTokenRepository.findByExpiryAtAfter(any(OffsetDateTime.class))).thenReturn(List.of());
+        blacklistedTokenService.load();
+        when(blacklistedTokenRepository.findByCreatedAtGreaterThanEqualAndExpiryAtAfter(
+                any(OffsetDateTime.class), any(OffsetDateTime.class)))
+                .thenReturn(List.of(entity(BLACKLISTED_TOKEN, OffsetDateTime.now().plusHours(1))));
 
         // Act
-        blacklistedTokenService.cleanupExpiredTokens();
+        blacklistedTokenService.refresh();
 
         // Assert
-        verify(blacklistedTokenRepository).deleteByExpiryAtBefore(dateCaptor.capture());
-        OffsetDateTime capturedDate = dateCaptor.getValue();
-
-        assertNotNull(capturedDate);
-        assertTrue(capturedDate.isBefore(OffsetDateTime.now().plusMinutes(1)));
-        assertTrue(capturedDate.isAfter(OffsetDateTime.now().minusMinutes(1)));
+        assertTrue(blacklistedTokenService.isTokenBlacklisted(BLACKLISTED_TOKEN));
+        ArgumentCaptor<OffsetDateTime> sinceCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(blacklistedTokenRepository).findByCreatedAtGreaterThanEqualAndExpiryAtAfter(
+                sinceCaptor.capture(), any(OffsetDateTime.class));
+        assertTrue(sinceCaptor.getValue().isBefore(OffsetDateTime.now().minusSeconds(59)));
     }
 
     @Test
-    void cleanupExpiredTokens_shouldDeleteExpiredTokens_whenExpiredTokensExist() {
+    void cleanupExpiredTokens_shouldDropExpiredTokens_andDeleteInBatches() {
+        // Arrange
+        when(blacklistedTokenRepository.findByExpiryAtAfter(any(OffsetDateTime.class))).thenReturn(List.of(
+                entity(VALID_TOKEN, OffsetDateTime.now().plusHours(1)),
+                entity(BLACKLISTED_TOKEN, OffsetDateTime.now().minusSeconds(1))));
+        blacklistedTokenService.load();
+        when(blacklistedTokenRepository.deleteExpiredBatch(any(OffsetDateTime.class), eq(PURGE_BATCH_SIZE)))
+                .thenReturn(PURGE_BATCH_SIZE, PURGE_BATCH_SIZE, 1);
+
         // Act
         blacklistedTokenService.cleanupExpiredTokens();
 
         // Assert
-        verify(blacklistedTokenRepository).deleteByExpiryAtBefore(any(OffsetDateTime.class));
+        assertTrue(blacklistedTokenService.isTokenBlacklisted(VALID_TOKEN));
+        assertFalse(blacklistedTokenService.isTokenBlacklisted(BLACKLISTED_TOKEN));
+        verify(blacklistedTokenRepository, times(3)).deleteExpiredBatch(any(OffsetDateTime.class), eq(PURGE_BATCH_SIZE));
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.java.admin.unit.service.auth;
 
+import com.java.admin.config.CacheConfig;
 import com.java.admin.entity.user.UserEntity;
 import com.java.admin.repository.user.UserRepository;
 import com.java.admin.service.auth.UserDetailServiceImpl;
@@ -7,9 +8,9 @@ import com.java.admin.security.CustomAuthUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -28,7 +29,6 @@ class UserDetailsServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
     private UserDetailServiceImpl userDetailsService;
 
     private UserEntity userEntity;
@@ -40,6 +40,9 @@ class UserDetailsServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        userDetailsService = new UserDetailServiceImpl(userRepository,
+                new ConcurrentMapCacheManager(CacheConfig.USER_DETAILS_CACHE));
+
         userEntity = new UserEntity();
         userEntity.setId(VALID_USER_ID);
         userEntity.setEmail(VALID_EMAIL);
@@ -178,4 +181,37 @@ class UserDetailsServiceImplTest {
         assertEquals(VALID_EMAIL, result.getUsername());
         verify(userRepository).findUserEntityByEmail(VALID_EMAIL);
     }
-}
\ No newline at end of file
+
+    @Test
+    void loadUserByUsername_shouldServeCachedDetails_andReturnNewPrincipalEachTime() {
+        // Arrange
+        when(userRepository.findUserEntityByEmail(VALID_EMAIL)).thenReturn(Optional.of(userEntity));
+        CustomAuthUser first = (CustomAuthUser) userDetailsService.loadUserByUsername(VALID_EMAIL);
+        first.eraseCredentials();
+
+        // Act
+        UserDetails second = userDetailsService.loadUserByUsername(VALID_EMAIL);
+
+        // Assert
+        assertNotSame(first, second);
+        assertEquals(VALID_PASSWORD, second.getPassword());
+        verify(userRepository, times(1)).findUserEntityByEmail(VALID_EMAIL);
+    }
+
+    @Test
+    void updatePassword_shouldSaveNewHash_andServeItFromCache() {
+        // Arrange
+        when(userRepository.findUserEntityByEmail(VALID_EMAIL)).thenReturn(Optional.of(userEntity));
+        UserDetails current = userDetailsService.loadUserByUsername(VALID_EMAIL);
+
+        // Act
+        UserDetails result = userDetailsService.updatePassword(current, "$2a$12$rehashed");
+
+        // Assert
+        assertEquals("$2a$12$rehashed", result.getPassword());
+        assertEquals("$2a$12$rehashed", userEntity.getPassword());
+        verify(userRepository).save(userEntity);
+        assertEquals("$2a$12$rehashed", userDetailsService.loadUserByUsername(VALID_EMAIL).getPassword());
+        verify(userRepository, times(2)).findUserEntityByEmail(VALID_EMAIL);
+    }
+}
@@ -0,0 +1,247 @@
+package com.java.admin.unit.service.url;
+
+import com.java.admin.config.BulkUrlPropertiesConfig;
+import com.java.admin.dto.url.request.CreateUrlRequestDto;
+import com.java.admin.dto.url.response.BulkCreateUrlItemResponseDto;
+import com.java.admin.dto.url.response.BulkCreateUrlResponseDto;
+import com.java.admin.dto.url.response.CreateUrlResponseDto;
+import com.java.admin.entity.url.UrlEntity;
+import com.java.admin.entity.user.UserEntity;
+import com.java.admin.exception.url.UrlException;
+import com.java.admin.mapper.url.UrlMapper;
+import com.java.admin.repository.url.UrlIdAllocator;
+import com.java.admin.repository.url.UrlRepository;
+import com.java.admin.repository.user.UserRepository;
+import com.java.admin.service.url.UrlBatchWriter;
+import com.java.admin.service.url.UrlSearchIndex;
+import com.java.admin.service.url.UrlBulkServiceImpl;
+import com.java.admin.util.OriginalUrlHasher;
+import com.java.admin.util.ShortCodeCodec;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UrlBulkServiceImplTest {
+
+    private static final Long VALID_USER_ID = 1L;
+    private static final String VALID_DESCRIPTION = "Campaign link";
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    @Mock
+    private UrlSearchIndex urlSearchIndex;
+
+    @Mock
+    private UrlIdAllocator urlIdAllocator;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ShortCodeCodec shortCodeCodec;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private UrlBulkServiceImpl urlBulkService;
+
+    @BeforeEach
+    void setUp() {
+        UrlBatchWriter urlBatchWriter = new UrlBatchWriter(
+                urlRepository,
+                urlIdAllocator,
+                userRepository,
+                new UrlMapper(),
+                shortCodeCodec,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                transactionTemplate,
+                urlSearchIndex
+        );
+        urlBulkService = new UrlBulkServiceImpl(urlBatchWriter, new BulkUrlPropertiesConfig(3, 2, 65_536, Duration.ofMinutes(5)));
+    }
+
+    private void stubCreation() {
+        AtomicLong nextId = new AtomicLong(100);
+        when(urlIdAllocator.nextId()).thenAnswer(invocation -> nextId.getAndIncrement());
+        when(shortCodeCodec.encode(anyLong())).thenAnswer(invocation -> "code" + invocation.getArgument(0));
+        when(userRepository.getReferenceById(VALID_USER_ID)).thenReturn(new UserEntity());
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private static CreateUrlRequestDto request(String url) {
+        return new CreateUrlRequestDto("alias", url, VALID_DESCRIPTION, OffsetDateTime.now(), null, true);
+    }
+
+    @Test
+    void createUrls_shouldCreateAllItemsInChunks_whenItemsAreValid() {
+        // Arrange
+        stubCreation();
+        when(urlRepository.findUrlHashesByUserIdAndUrlHashIn(eq(VALID_USER_ID), anyCollection()))
+                .thenReturn(List.of());
+        when(urlRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BulkCreateUrlResponseDto response = urlBulkService.createUrls(List.of(
+                request("https://example.com/a"),
+                request("https://example.com/b"),
+                request("https://example.com/c")).iterator(), VALID_USER_ID);
+
+        // Assert
+        assertEquals(3, response.received());
+        assertEquals(3, response.created());
+        assertEquals(0, response.failed());
+        assertFalse(response.truncated());
+        assertEquals(List.of(0L, 1L, 2L), response.items().stream().map(BulkCreateUrlItemResponseDto::index).toList());
+        CreateUrlResponseDto first = response.items().get(0).url();
+        assertEquals(100L, first.id());
+        assertEquals("code100", first.shortUrl());
+        verify(urlRepository, times(2)).saveAllAndFlush(anyList());
+        verify(urlRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void createUrls_shouldReportInvalidItems_withoutCreatingThem() {
+        // Arrange
+        stubCreation();
+        when(urlRepository.findUrlHashesByUserIdAndUrlHashIn(eq(VALID_USER_ID), anyCollection()))
+                .thenReturn(List.of());
+        when(urlRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BulkCreateUrlResponseDto response = urlBulkService.createUrls(Arrays.asList(
+                null,
+                request(""),
+                request("https://example.com/a")).iterator(), VALID_USER_ID);
+
+        // Assert
+        assertEquals(1, response.created());
+        assertEquals(2, response.failed());
+        assertEquals(UrlException.URL_INVALID_ITEM_CODE, response.items().get(0).errors().get(0).errorCode());
+        assertFalse(response.items().get(1).success());
+        assertTrue(response.items().get(1).errors().stream().anyMatch(error -> "url".equals(error.errorMessage())));
+        assertTrue(response.items().get(2).success());
+    }
+
+    @Test
+    void createUrls_shouldRejectDuplicates_againstExistingAndEarlierChunks() {
+        // Arrange
+        stubCreation();
+        when(urlRepository.findUrlHashesByUserIdAndUrlHashIn(eq(VALID_USER_ID), anyCollection()))
+                .thenReturn(List.of(OriginalUrlHasher.hash("https://example.com/existing")))
+                .thenReturn(List.of(OriginalUrlHasher.hash("https://example.com/a")));
+        when(urlRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BulkCreateUrlResponseDto response = urlBulkService.createUrls(List.of(
+                request("https://example.com/a"),
+                request("https://example.com/existing"),
+                request("https://example.com/a")).iterator(), VALID_USER_ID);
+
+        // Assert
+        assertEquals(1, response.created());
+        assertEquals(UrlException.URL_ALREADY_EXISTS_CODE, response.items().get(1).errors().get(0).errorCode());
+        assertEquals(UrlException.URL_ALREADY_EXISTS_CODE, response.items().get(2).errors().get(0).errorCode());
+    }
+
+    @Test
+    void createUrls_shouldRetryItemWithNewId_whenShortCodeIsAlreadyTaken() {
+        // Arrange
+        stubCreation();
+        when(urlRepository.findUrlHashesByUserIdAndUrlHashIn(eq(VALID_USER_ID), anyCollection()))
+                .thenReturn(List.of());
+        when(urlRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint \"pk_url_code\" " +
+                        "Detail: Key (code)=(code100) already exists."));
+        when(urlRepository.saveAndFlush(any(UrlEntity.class))).thenAnswer(invocation -> {
+            UrlEntity urlEntity = invocation.getArgument(0);
+            if ("code100".equals(urlEntity.getShortUrl())) {
+                throw new DataIntegrityViolationException("duplicate key value violates unique constraint \"pk_url_code\" " +
+                        "Detail: Key (code)=(code100) already exists.");
+            }
+            return urlEntity;
+        });
+
+        // Act
+        BulkCreateUrlResponseDto response = urlBulkService.createUrls(List.of(
+                request("https://example.com/first")).iterator(), VALID_USER_ID);
+
+        // Assert
+        assertEquals(1, response.created());
+        assertEquals("code101", response.items().get(0).url().shortUrl());
+    }
+
+    @Test
+    void createUrls_shouldRetryItemsOneByOne_whenChunkInsertFails() {
+        // Arrange
+        stubCreation();
+        when(urlRepository.findUrlHashesByUserIdAndUrlHashIn(eq(VALID_USER_ID), anyCollection()))
+                .thenReturn(List.of());
+        when(urlRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("value too long for type character varying(255)"));
+        when(urlRepository.saveAndFlush(any(UrlEntity.class))).thenAnswer(invocation -> {
+            UrlEntity urlEntity = invocation.getArgument(0);
+            if (urlEntity.getOriginalUrl().endsWith("bad")) {
+                throw new DataIntegrityViolationException("value too long for type character varying(255)");
+            }
+            return urlEntity;
+        });
+
+        // Act
+        BulkCreateUrlResponseDto response = urlBulkService.createUrls(List.of(
+                request("https://example.com/good"),
+                request("https://example.com/bad")).iterator(), VALID_USER_ID);
+
+        // Assert
+        assertEquals(1, response.created());
+        assertTrue(response.items().get(0).success());
+        assertEquals(UrlException.URL_CREATE_FAILED_CODE, response.items().get(1).errors().get(0).errorCode());
+        verify(urlRepository, times(2)).saveAndFlush(any(UrlEntity.class));
+    }
+
+    @Test
+    void createUrls_shouldStopReading_whenMaxItemsReached() {
+        // Arrange
+        stubCreation();
+        when(urlRepository.findUrlHashesByUserIdAndUrlHashIn(eq(VALID_USER_ID), anyCollection()))
+                .thenReturn(List.of());
+        when(urlRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        List<CreateUrlRequestDto> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(request("https://example.com/" + i));
+        }
+
+        // Act
+        BulkCreateUrlResponseDto response = urlBulkService.createUrls(requests.iterator(), VALID_USER_ID);
+
+        // Assert
+        assertEquals(3, response.received());
+        assertEquals(3, response.created());
+        assertTrue(response.truncated());
+    }
+}
@@ -0,0 +1,86 @@
+package com.java.admin.unit.service.url;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.java.admin.dto.url.response.UrlExportRowDto;
+import com.java.admin.entity.url.UrlFileFormat;
+import com.java.admin.repository.url.UrlRepository;
+import com.java.admin.service.url.UrlExportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UrlExportServiceImplTest {
+
+    private static final Long VALID_USER_ID = 1L;
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    private UrlExportServiceImpl urlExportService;
+
+    private final AtomicBoolean streamClosed = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        urlExportService = new UrlExportServiceImpl(urlRepository, objectMapper);
+
+        when(urlRepository.streamExportRowsByUserId(VALID_USER_ID)).thenReturn(Stream.of(
+                new UrlExportRowDto(1L, "abc1234", "https://example.com/a", null, "Plain",
+                        CREATED_AT, null, true, 3L, CREATED_AT),
+                new UrlExportRowDto(2L, "def5678", "https://example.com/b?x=1,2", "promo", "Say \"hi\"",
+                        CREATED_AT, null, false, 0L, CREATED_AT)
+        ).onClose(() -> streamClosed.set(true)));
+    }
+
+    @Test
+    void exportUrls_shouldWriteCsvWithHeaderAndQuotedFields() throws Exception {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        urlExportService.exportUrls(UrlFileFormat.CSV, VALID_USER_ID, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,shortUrl,url,customAlias,description,validSince,validUntil,isActive,clickCount,createdAt", lines[0]);
+        assertEquals("1,abc1234,https://example.com/a,,Plain,2025-01-01T00:00Z,,true,3,2025-01-01T00:00Z", lines[1]);
+        assertEquals("2,def5678,\"https://example.com/b?x=1,2\",promo,\"Say \"\"hi\"\"\",2025-01-01T00:00Z,,false,0,2025-01-01T00:00Z", lines[2]);
+        assertTrue(streamClosed.get());
+    }
+
+    @Test
+    void exportUrls_shouldWriteOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        urlExportService.exportUrls(UrlFileFormat.NDJSON, VALID_USER_ID, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,\"shortUrl\":\"abc1234\",\"url\":\"https://example.com/a\""));
+        assertTrue(lines[1].contains("\"description\":\"Say \\\"hi\\\"\""));
+        assertTrue(streamClosed.get());
+    }
+}
@@ -0,0 +1,224 @@
+package com.java.admin.unit.service.url;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.java.admin.config.BulkUrlPropertiesConfig;
+import com.java.admin.dto.ApiError;
+import com.java.admin.dto.url.response.BulkCreateUrlItemResponseDto;
+import com.java.admin.dto.url.response.UrlImportJobResponseDto;
+import com.java.admin.entity.url.UrlFileFormat;
+import com.java.admin.entity.url.UrlImportJobEntity;
+import com.java.admin.entity.url.UrlImportStatus;
+import com.java.admin.exception.url.UrlException;
+import com.java.admin.mapper.url.UrlMapper;
+import com.java.admin.repository.url.UrlImportJobRepository;
+import com.java.admin.service.url.UrlBatchWriter;
+import com.java.admin.service.url.UrlImportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UrlImportServiceImplTest {
+
+    private static final Long VALID_USER_ID = 1L;
+    private static final Long VALID_JOB_ID = 7L;
+
+    @Mock
+    private UrlImportJobRepository urlImportJobRepository;
+
+    @Mock
+    private UrlBatchWriter urlBatchWriter;
+
+    private UrlImportServiceImpl urlImportService;
+
+    private UrlImportJobEntity urlImportJobEntity;
+    private final List<List<UrlBatchWriter.Item>> writtenChunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        urlImportService = new UrlImportServiceImpl(
+                urlImportJobRepository,
+                urlBatchWriter,
+                new UrlMapper(),
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                new BulkUrlPropertiesConfig(50_000, 2, 65_536, Duration.ofMinutes(5))
+        );
+
+        urlImportJobEntity = new UrlImportJobEntity();
+        urlImportJobEntity.setId(VALID_JOB_ID);
+        urlImportJobEntity.setUserId(VALID_USER_ID);
+        urlImportJobEntity.setFormat(UrlFileFormat.CSV);
+        urlImportJobEntity.setStatus(UrlImportStatus.PENDING);
+    }
+
+    private void stubRunnableJob() {
+        when(urlImportJobRepository.findByIdAndUserId(VALID_JOB_ID, VALID_USER_ID)).thenReturn(Optional.of(urlImportJobEntity));
+        when(urlImportJobRepository.claimForResume(eq(VALID_JOB_ID), eq(VALID_USER_ID), any(), any())).thenReturn(1);
+    }
+
+    private void stubWriter() {
+        when(urlBatchWriter.write(anyList(), eq(VALID_USER_ID), any())).thenAnswer(invocation -> {
+            List<UrlBatchWriter.Item> chunk = List.copyOf(invocation.getArgument(0));
+            writtenChunks.add(chunk);
+            List<BulkCreateUrlItemResponseDto> results = chunk.stream()
+                    .map(item -> item.request() == null
+                            ? new BulkCreateUrlItemResponseDto(item.index(), false, null, List.of(new ApiError(
+                                    UrlException.URL_INVALID_ITEM_CODE,
+                                    UrlException.URL_INVALID_ITEM_MESSAGE,
+                                    UrlException.URL_INVALID_ITEM_CAUSE)))
+                            : new BulkCreateUrlItemResponseDto(item.index(), true, null, List.of()))
+                    .toList();
+            invocation.<Consumer<List<BulkCreateUrlItemResponseDto>>>getArgument(2).accept(results);
+            return results;
+        });
+    }
+
+    private static InputStream upload(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void createImportJob_shouldSavePendingJob() {
+        // Arrange
+        when(urlImportJobRepository.save(any(UrlImportJobEntity.class))).thenAnswer(invocation -> {
+            UrlImportJobEntity saved = invocation.getArgument(0);
+            saved.setId(VALID_JOB_ID);
+            return saved;
+        });
+
+        // Act
+        UrlImportJobResponseDto response = urlImportService.createImportJob(UrlFileFormat.NDJSON, VALID_USER_ID);
+
+        // Assert
+        assertEquals(VALID_JOB_ID, response.id());
+        assertEquals("NDJSON", response.format());
+        assertEquals("PENDING", response.status());
+    }
+
+    @Test
+    void runImport_shouldWriteCsvRowsInChunks_andRecordCheckpoints() {
+        // Arrange
+        stubRunnableJob();
+        stubWriter();
+        String csv = """
+                url,description,isActive,validSince
+                https://example.com/a,"First, quoted",true,2025-01-01T00:00:00Z
+                https://example.com/b,Second,false,
+                https://example.com/c,Third,true,not-a-date
+                """;
+
+        // Act
+        urlImportService.runImport(VALID_JOB_ID, UrlFileFormat.CSV, upload(csv), VALID_USER_ID);
+
+        // Assert
+        assertEquals(2, writtenChunks.size());
+        UrlBatchWriter.Item first = writtenChunks.get(0).get(0);
+        assertEquals(0L, first.index());
+        assertEquals("https://example.com/a", first.request().url());
+        assertEquals("First, quoted", first.request().description());
+        assertFalse(writtenChunks.get(0).get(1).request().isActive());
+        assertNull(writtenChunks.get(1).get(0).request());
+        verify(urlImportJobRepository).recordProgress(eq(VALID_JOB_ID), eq(2L), eq(2L), eq(0L), isNull(), any());
+        verify(urlImportJobRepository).recordProgress(eq(VALID_JOB_ID), eq(3L), eq(0L), eq(1L),
+                startsWith("Row 3: "), any());
+        verify(urlImportJobRepository).finish(eq(VALID_JOB_ID), eq(UrlImportStatus.COMPLETED), isNull(), any());
+    }
+
+    @Test
+    void runImport_shouldSkipRowsBeforeCheckpoint_whenResuming() {
+        // Arrange
+        urlImportJobEntity.setFormat(UrlFileFormat.NDJSON);
+        urlImportJobEntity.setStatus(UrlImportStatus.FAILED);
+        urlImportJobEntity.setCheckpointRow(2);
+        stubRunnableJob();
+        stubWriter();
+        String ndjson = """
+                {"url":"https://example.com/a"}
+                {"url":"https://example.com/b"}
+
+                {"url":"https://example.com/c"}
+                """;
+
+        // Act
+        urlImportService.runImport(VALID_JOB_ID, UrlFileFormat.NDJSON, upload(ndjson), VALID_USER_ID);
+
+        // Assert
+        assertEquals(1, writtenChunks.size());
+        assertEquals(2L, writtenChunks.get(0).get(0).index());
+        assertEquals("https://example.com/c", writtenChunks.get(0).get(0).request().url());
+        verify(urlImportJobRepository).recordProgress(eq(VALID_JOB_ID), eq(3L), eq(1L), eq(0L), isNull(), any());
+    }
+
+    @Test
+    void runImport_shouldMarkJobFailed_whenWriteFails() {
+        // Arrange
+        stubRunnableJob();
+        when(urlBatchWriter.write(anyList(), eq(VALID_USER_ID), any()))
+                .thenThrow(new QueryTimeoutException("connection lost"));
+
+        // Act
+        urlImportService.runImport(VALID_JOB_ID, UrlFileFormat.CSV,
+                upload("url\nhttps://example.com/a\n"), VALID_USER_ID);
+
+        // Assert
+        verify(urlImportJobRepository).finish(eq(VALID_JOB_ID), eq(UrlImportStatus.FAILED),
+                contains("connection lost"), any());
+        verify(urlImportJobRepository, never()).finish(eq(VALID_JOB_ID), eq(UrlImportStatus.COMPLETED), any(), any());
+    }
+
+    @Test
+    void runImport_shouldThrowUrlException_whenJobIsAlreadyRunning() {
+        // Arrange
+        when(urlImportJobRepository.findByIdAndUserId(VALID_JOB_ID, VALID_USER_ID)).thenReturn(Optional.of(urlImportJobEntity));
+        when(urlImportJobRepository.claimForResume(eq(VALID_JOB_ID), eq(VALID_USER_ID), any(), any())).thenReturn(0);
+
+        // Act & Assert
+        UrlException exception = assertThrows(UrlException.class, () -> urlImportService.runImport(
+                VALID_JOB_ID, UrlFileFormat.CSV, upload("url\n"), VALID_USER_ID));
+
+        assertEquals(UrlException.URL_IMPORT_NOT_RESUMABLE_CODE, exception.getErrorCode());
+        verifyNoInteractions(urlBatchWriter);
+    }
+
+    @Test
+    void runImport_shouldThrowUrlException_whenCsvHasNoUrlColumn() {
+        // Arrange
+        stubRunnableJob();
+
+        // Act & Assert
+        UrlException exception = assertThrows(UrlException.class, () -> urlImportService.runImport(
+                VALID_JOB_ID, UrlFileFormat.CSV, upload("link,description\nhttps://example.com/a,x\n"), VALID_USER_ID));
+
+        assertEquals(UrlException.URL_IMPORT_INVALID_UPLOAD_CODE, exception.getErrorCode());
+        verify(urlImportJobRepository).finish(eq(VALID_JOB_ID), eq(UrlImportStatus.FAILED), any(), any());
+    }
+
+    @Test
+    void getImportJob_shouldThrowUrlException_whenJobBelongsToAnotherUser() {
+        // Arrange
+        when(urlImportJobRepository.findByIdAndUserId(VALID_JOB_ID, VALID_USER_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        UrlException exception = assertThrows(UrlException.class,
+                () -> urlImportService.getImportJob(VALID_JOB_ID, VALID_USER_ID));
+
+        assertEquals(UrlException.URL_IMPORT_NOT_FOUND_CODE, exception.getErrorCode());
+    }
+}
@@ -0,0 +1,159 @@
+package com.java.admin.unit.service.url;
+
+import com.java.admin.config.UrlSearchPropertiesConfig;
+import com.java.admin.dto.url.response.UrlExportRowDto;
+import com.java.admin.entity.url.UrlEntity;
+import com.java.admin.entity.url.UrlEntity_;
+import com.java.admin.repository.url.UrlRepository;
+import com.java.admin.service.url.UrlSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UrlSearchIndexTest {
+
+    private static final Long VALID_USER_ID = 1L;
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UrlSearchIndex urlSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        urlSearchIndex = new UrlSearchIndex(
+                urlRepository,
+                new UrlSearchPropertiesConfig(true, 10, 4, 3, Duration.ofMinutes(10), Duration.ofMinutes(1)),
+                transactionManager);
+    }
+
+    private static UrlExportRowDto row(long id, String url, String description) {
+        return new UrlExportRowDto(id, "code" + id, url, null, description, null, null, true, 0L, null);
+    }
+
+    private Optional<List<Long>> ids(Long userId, String field, String value) {
+        return urlSearchIndex.search(userId, field, value).map(UrlSearchIndex.Candidates::rankedIds);
+    }
+
+    private void stubRows(UrlExportRowDto... rows) {
+        when(urlRepository.streamExportRowsByUserId(VALID_USER_ID)).thenReturn(Stream.of(rows));
+    }
+
+    @Test
+    void search_shouldRankExactThenEarliestThenShortestMatch() {
+        // Arrange
+        stubRows(
+                row(1L, "https://shop.example.com/sale", null),
+                row(2L, "https://example.com", null),
+                row(3L, "example.com", null),
+                row(4L, "https://other.org", null));
+
+        // Act
+        Optional<List<Long>> result = ids(VALID_USER_ID, UrlEntity_.ORIGINAL_URL, "example.com");
+
+        // Assert
+        assertEquals(Optional.of(List.of(3L, 2L, 1L)), result);
+    }
+
+    @Test
+    void search_shouldMatchOnlyTheRequestedFieldAndCase() {
+        // Arrange
+        stubRows(row(1L, "https://a.org", "Summer promo"), row(2L, "https://promo.org", null));
+
+        // Act & Assert
+        assertEquals(Optional.of(List.of(1L)), ids(VALID_USER_ID, UrlEntity_.DESCRIPTION, "promo"));
+        assertEquals(Optional.of(List.of()), ids(VALID_USER_ID, UrlEntity_.DESCRIPTION, "Promo"));
+        verify(urlRepository, times(1)).streamExportRowsByUserId(VALID_USER_ID);
+    }
+
+    @Test
+    void search_shouldFollowPutAndRemove_afterTheIndexIsBuilt() {
+        // Arrange
+        stubRows(row(1L, "https://old.org", null));
+        ids(VALID_USER_ID, UrlEntity_.ORIGINAL_URL, "old");
+
+        UrlEntity updated = new UrlEntity();
+        updated.setId(1L);
+        updated.setOriginalUrl("https://new.org");
+        UrlEntity created = new UrlEntity();
+        created.setId(2L);
+        created.setOriginalUrl("https://newer.org");
+
+        // Act
+        urlSearchIndex.put(VALID_USER_ID, updated);
+        urlSearchIndex.put(VALID_USER_ID, created);
+        urlSearchIndex.remove(VALID_USER_ID, 2L);
+
+        // Assert
+        assertEquals(Optional.of(List.of()), ids(VALID_USER_ID, UrlEntity_.ORIGINAL_URL, "old"));
+        assertEquals(Optional.of(List.of(1L)), ids(VALID_USER_ID, UrlEntity_.ORIGINAL_URL, "new"));
+    }
+
+    @Test
+    void search_shouldFallBack_whenValueIsShorterThanATrigramOrMatchesTooMany() {
+        // Arrange
+        stubRows(row(1L, "https://a.org", null), row(2L, "https://b.org", null),
+                row(3L, "https://c.org", null), row(4L, "https://d.org", null));
+
+        // Act & Assert
+        assertTrue(ids(VALID_USER_ID, UrlEntity_.ORIGINAL_URL, "ht").isEmpty());
+        assertTrue(ids(VALID_USER_ID, UrlEntity_.ORIGINAL_URL, "https").isEmpty());
+        assertEquals(Optional.of(List.of(2L)), ids(VALID_USER_ID, UrlEntity_.ORIGINAL_URL, "b.org"));
+    }
+
+    @Test
+    void search_shouldFallBack_whenUserHasTooManyUrls() {
+        // Arrange
+        stubRows(row(1L, "https://a.org", null), row(2L, "https://b.org", null), row(3L, "https://c.org", null),
+                row(4L, "https://d.org", null), row(5L, "https://e.org", null));
+
+        // Act
+        Optional<List<Long>> result = ids(VALID_USER_ID, UrlEntity_.ORIGINAL_URL, "a.org");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertTrue(ids(VALID_USER_ID, UrlEntity_.ORIGINAL_URL, "b.org").isEmpty());
+        verify(urlRepository, times(1)).streamExportRowsByUserId(VALID_USER_ID);
+    }
+
+    @Test
+    void search_shouldReportRowsChangedSinceBuildStarted_lessTheOverlap() {
+        // Arrange
+        stubRows(row(1L, "https://a.org", null));
+        OffsetDateTime beforeBuild = OffsetDateTime.now();
+
+        // Act
+        Optional<UrlSearchIndex.Candidates> result = urlSearchIndex.search(VALID_USER_ID, UrlEntity_.ORIGINAL_URL, "a.org");
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(List.of(1L), result.get().rankedIds());
+        assertFalse(result.get().changedSince().isBefore(beforeBuild.minusMinutes(1)));
+        assertTrue(result.get().changedSince().isBefore(beforeBuild));
+    }
+
+    @Test
+    void search_shouldMatchWildcardCharactersLiterally() {
+        // Arrange
+        stubRows(row(1L, "https://a.org/summer_sale", null), row(2L, "https://a.org/summerXsale", null));
+
+        // Act & Assert
+        assertEquals(Optional.of(List.of(1L)), ids(VALID_USER_ID, UrlEntity_.ORIGINAL_URL, "summer_sale"));
+    }
+}
@@ -13,16 +13,22 @@ import com.java.admin.entity.url.UrlEntity;
 import com.java.admin.entity.user.UserEntity;
 import com.java.admin.exception.url.UrlException;
 import com.java.admin.mapper.url.UrlMapper;
+import com.java.admin.repository.url.UrlIdAllocator;
 import com.java.admin.repository.url.UrlRepository;
+import com.java.admin.specification.url.UrlCursor;
 import com.java.admin.specification.url.UrlSpecification;
 import com.java.admin.repository.user.UserRepository;
+import com.java.admin.service.url.UrlSearchIndex;
 import com.java.admin.service.url.UrlServiceImpl;
+import com.java.admin.util.OriginalUrlHasher;
+import com.java.admin.util.ShortCodeCodec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -43,12 +49,21 @@ class UrlServiceImplTest {
     @Mock
     private UrlRepository urlRepository;
 
+    @Mock
+    private UrlIdAllocator urlIdAllocator;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private UrlMapper urlMapper;
 
+    @Mock
+    private ShortCodeCodec shortCodeCodec;
+
+    @Mock
+    private UrlSearchIndex urlSearchIndex;
+
     @InjectMocks
     private UrlServiceImpl urlService;
 
@@ -121,6 +136,8 @@ class UrlServiceImplTest {
                 null,
                 null,
                 null,
+                null,
+                null,
                 null
         );
 
@@ -162,10 +179,13 @@ class UrlServiceImplTest {
     @Test
     void createUrl_shouldCreateUrlSuccessfully_whenValidRequest() {
         // Arrange
-        when(urlRepository.findUrlEntitiesByUserAndDeletedIsFalseAndOriginalUrl(VALID_USER_ID, VALID_URL))
-                .thenReturn(Optional.empty());
-        when(userRepository.findById(VALID_USER_ID)).thenReturn(Optional.of(userEntity));
-        when(urlRepository.save(any(UrlEntity.class))).thenReturn(urlEntity);
+        when(urlRepository.existsByUserIdAndUrlHashAndNotDeleted(VALID_USER_ID, OriginalUrlHasher.hash(VALID_URL)))
+                .thenReturn(false);
+        when(userRepository.getReferenceById(VALID_USER_ID)).thenReturn(userEntity);
+        when(urlIdAllocator.nextId()).thenReturn(VALID_URL_ID);
+        when(urlMapper.toEntity(createUrlRequest)).thenReturn(new UrlEntity());
+        when(shortCodeCodec.encode(VALID_URL_ID)).thenReturn(VALID_SHORT_URL);
+        when(urlRepository.save(any(UrlEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(urlMapper.toResponseDto(any(UrlEntity.class))).thenReturn(createUrlResponse);
 
         // Act
@@ -176,17 +196,21 @@ class UrlServiceImplTest {
         assertEquals(VALID_URL_ID, response.id());
         assertEquals(VALID_SHORT_URL, response.shortUrl());
         assertEquals(VALID_URL, response.originalUrl());
-        verify(urlRepository).findUrlEntitiesByUserAndDeletedIsFalseAndOriginalUrl(VALID_USER_ID, VALID_URL);
-        verify(userRepository).findById(VALID_USER_ID);
-        verify(urlRepository, times(2)).save(any(UrlEntity.class));
+        verify(urlRepository).existsByUserIdAndUrlHashAndNotDeleted(VALID_USER_ID, OriginalUrlHasher.hash(VALID_URL));
+        verify(userRepository).getReferenceById(VALID_USER_ID);
+        verify(userRepository, never()).findById(any());
+        verify(urlRepository).save(argThat(saved -> VALID_URL_ID.equals(saved.getId())
+                && VALID_SHORT_URL.equals(saved.getShortUrl())
+                && saved.isNew()));
         verify(urlMapper).toResponseDto(any(UrlEntity.class));
+        verify(urlSearchIndex).put(eq(VALID_USER_ID), argThat(indexed -> VALID_URL_ID.equals(indexed.getId())));
     }
 
     @Test
     void createUrl_shouldThrowUrlException_whenUrlAlreadyExists() {
         // Arrange
-        when(urlRepository.findUrlEntitiesByUserAndDeletedIsFalseAndOriginalUrl(VALID_USER_ID, VALID_URL))
-                .thenReturn(Optional.of(urlEntity));
+        when(urlRepository.existsByUserIdAndUrlHashAndNotDeleted(VALID_USER_ID, OriginalUrlHasher.hash(VALID_URL)))
+                .thenReturn(true);
 
         // Act & Assert
         UrlException exception = assertThrows(UrlException.class,
@@ -196,22 +220,95 @@ class UrlServiceImplTest {
         assertEquals(UrlException.URL_ALREADY_EXISTS_MESSAGE, exception.getErrorMessage());
         assertEquals(UrlException.URL_ALREADY_EXISTS_CAUSE, exception.getErrorCause());
         verify(urlRepository, never()).save(any(UrlEntity.class));
-        verify(userRepository, never()).findById(any());
+        verify(urlIdAllocator, never()).nextId();
     }
 
     @Test
     void createUrl_shouldThrowRuntimeException_whenUserNotFound() {
         // Arrange
-        when(urlRepository.findUrlEntitiesByUserAndDeletedIsFalseAndOriginalUrl(VALID_USER_ID, VALID_URL))
-                .thenReturn(Optional.empty());
-        when(userRepository.findById(VALID_USER_ID)).thenReturn(Optional.empty());
+        when(urlRepository.existsByUserIdAndUrlHashAndNotDeleted(VALID_USER_ID, OriginalUrlHasher.hash(VALID_URL)))
+                .thenReturn(false);
+        when(userRepository.getReferenceById(VALID_USER_ID)).thenReturn(userEntity);
+        when(urlIdAllocator.nextId()).thenReturn(VALID_URL_ID);
+        when(urlMapper.toEntity(createUrlRequest)).thenReturn(new UrlEntity());
+        when(shortCodeCodec.encode(VALID_URL_ID)).thenReturn(VALID_SHORT_URL);
+        when(urlRepository.save(any(UrlEntity.class)))
+                .thenThrow(new DataIntegrityViolationException(
+                        "insert or update on table \"url_table\" violates foreign key constraint \"fk_url_table_on_user\""));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class,
                 () -> urlService.createUrl(createUrlRequest, VALID_USER_ID));
 
         assertTrue(exception.getMessage().contains("User not found with ID: " + VALID_USER_ID));
-        verify(urlRepository, never()).save(any(UrlEntity.class));
+    }
+
+    @Test
+    void createUrl_shouldRetryWithNewId_whenShortCodeIsAlreadyTaken() {
+        // Arrange
+        when(urlRepository.existsByUserIdAndUrlHashAndNotDeleted(VALID_USER_ID, OriginalUrlHasher.hash(VALID_URL)))
+                .thenReturn(false);
+        when(userRepository.getReferenceById(VALID_USER_ID)).thenReturn(userEntity);
+        when(urlIdAllocator.nextId()).thenReturn(VALID_URL_ID).thenReturn(2L);
+        when(urlMapper.toEntity(createUrlRequest)).thenAnswer(invocation -> new UrlEntity());
+        when(shortCodeCodec.encode(VALID_URL_ID)).thenReturn("taken01");
+        when(shortCodeCodec.encode(2L)).thenReturn("free002");
+        when(urlRepository.save(any(UrlEntity.class)))
+                .thenThrow(new DataIntegrityViolationException(
+                        "duplicate key value violates unique constraint \"pk_url_code\" Detail: Key (code)=(taken01) already exists."))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(urlMapper.toResponseDto(any(UrlEntity.class))).thenReturn(createUrlResponse);
+
+        // Act
+        urlService.createUrl(createUrlRequest, VALID_USER_ID);
+
+        // Assert
+        verify(urlRepository, times(2)).save(any(UrlEntity.class));
+        verify(urlSearchIndex).put(eq(VALID_USER_ID), argThat(indexed -> "free002".equals(indexed.getShortUrl())));
+    }
+
+    @Test
+    void createUrl_shouldThrowUrlException_whenCustomAliasIsAlreadyTaken() {
+        // Arrange
+        UrlEntity aliased = new UrlEntity();
+        aliased.setCustomAlias(VALID_CUSTOM_ALIAS);
+        when(urlRepository.existsByUserIdAndUrlHashAndNotDeleted(VALID_USER_ID, OriginalUrlHasher.hash(VALID_URL)))
+                .thenReturn(false);
+        when(userRepository.getReferenceById(VALID_USER_ID)).thenReturn(userEntity);
+        when(urlIdAllocator.nextId()).thenReturn(VALID_URL_ID);
+        when(urlMapper.toEntity(createUrlRequest)).thenReturn(aliased);
+        when(shortCodeCodec.encode(VALID_URL_ID)).thenReturn("free001");
+        when(urlRepository.save(any(UrlEntity.class)))
+                .thenThrow(new DataIntegrityViolationException(
+                        "duplicate key value violates unique constraint \"pk_url_code\" Detail: Key (code)=(mylink) already exists."));
+
+        // Act & Assert
+        UrlException exception = assertThrows(UrlException.class,
+                () -> urlService.createUrl(createUrlRequest, VALID_USER_ID));
+
+        assertEquals(UrlException.URL_ALIAS_ALREADY_EXISTS_CODE, exception.getErrorCode());
+        verify(urlIdAllocator, times(1)).nextId();
+    }
+
+    @Test
+    void createUrl_shouldThrowUrlException_whenNoFreeShortCodeIsFound() {
+        // Arrange
+        when(urlRepository.existsByUserIdAndUrlHashAndNotDeleted(VALID_USER_ID, OriginalUrlHasher.hash(VALID_URL)))
+                .thenReturn(false);
+        when(userRepository.getReferenceById(VALID_USER_ID)).thenReturn(userEntity);
+        when(urlIdAllocator.nextId()).thenReturn(VALID_URL_ID);
+        when(urlMapper.toEntity(createUrlRequest)).thenAnswer(invocation -> new UrlEntity());
+        when(shortCodeCodec.encode(VALID_URL_ID)).thenReturn("taken01");
+        when(urlRepository.save(any(UrlEntity.class)))
+                .thenThrow(new DataIntegrityViolationException(
+                        "duplicate key value violates unique constraint \"pk_url_code\""));
+
+        // Act & Assert
+        UrlException exception = assertThrows(UrlException.class,
+                () -> urlService.createUrl(createUrlRequest, VALID_USER_ID));
+
+        assertEquals(UrlException.URL_CREATE_FAILED_CODE, exception.getErrorCode());
+        verify(urlRepository, times(5)).save(any(UrlEntity.class));
     }
 
     @Test
@@ -266,6 +363,116 @@ class UrlServiceImplTest {
         verify(urlMapper, never()).toResponseDtoList(any());
     }
 
+    @Test
+    void getAllUrlsByUserId_shouldReturnUrlsInIndexRank_whenSearchIndexAnswersFilter() {
+        // Arrange
+        GetUrlsRequestDto searchRequest = new GetUrlsRequestDto(
+                null, 1, 2, null, null, "originalUrl", "example", null, null, null, null, null);
+        OffsetDateTime createdAt = OffsetDateTime.now();
+        UrlEntity first = urlCreatedAt(1L, createdAt);
+        UrlEntity second = urlCreatedAt(2L, createdAt);
+        UrlEntity third = urlCreatedAt(3L, createdAt);
+        when(urlSearchIndex.search(VALID_USER_ID, "originalUrl", "example"))
+                .thenReturn(Optional.of(new UrlSearchIndex.Candidates(List.of(3L, 1L, 2L), createdAt.minusMinutes(1))));
+        when(urlRepository.findAll(any(UrlSpecification.class))).thenReturn(List.of(first, second, third));
+        when(urlMapper.toResponseDtoList(anyList())).thenReturn(List.of(createUrlResponse, createUrlResponse));
+
+        // Act
+        ApiPaginationResponse response = urlService.getAllUrlsByUserId(searchRequest, VALID_USER_ID);
+
+        // Assert
+        assertEquals(3L, response.totalElements());
+        assertEquals(2, response.totalPages());
+        assertTrue(response.hasNextPage());
+        verify(urlMapper).toResponseDtoList(List.of(third, first));
+        verify(urlRepository, never()).findAll(any(UrlSpecification.class), any(Pageable.class));
+    }
+
+    @Test
+    void getAllUrlsByUserId_shouldRankRowsChangedSinceIndexBuildLast_whenSearchIndexAnswersFilter() {
+        // Arrange
+        GetUrlsRequestDto searchRequest = new GetUrlsRequestDto(
+                null, 1, 10, null, null, "description", "promo", null, null, null, null, null);
+        OffsetDateTime createdAt = OffsetDateTime.now();
+        UrlEntity ranked = urlCreatedAt(1L, createdAt.minusDays(1));
+        UrlEntity changedElsewhere = urlCreatedAt(2L, createdAt);
+        when(urlSearchIndex.search(VALID_USER_ID, "description", "promo"))
+                .thenReturn(Optional.of(new UrlSearchIndex.Candidates(List.of(1L), createdAt.minusMinutes(1))));
+        when(urlRepository.findAll(any(UrlSpecification.class))).thenReturn(List.of(changedElsewhere, ranked));
+        when(urlMapper.toResponseDtoList(anyList())).thenReturn(List.of(createUrlResponse, createUrlResponse));
+
+        // Act
+        ApiPaginationResponse response = urlService.getAllUrlsByUserId(searchRequest, VALID_USER_ID);
+
+        // Assert
+        assertEquals(2L, response.totalElements());
+        verify(urlMapper).toResponseDtoList(List.of(ranked, changedElsewhere));
+    }
+
+    private GetUrlsRequestDto cursorRequest(String cursor, Boolean includeCount) {
+        return new GetUrlsRequestDto(null, null, 2, null, false, null, null, null, null, null, cursor, includeCount);
+    }
+
+    private UrlEntity urlCreatedAt(long id, OffsetDateTime createdAt) {
+        UrlEntity entity = new UrlEntity();
+        entity.setId(id);
+        entity.setCreatedAt(createdAt);
+        return entity;
+    }
+
+    @Test
+    void getAllUrlsByUserId_shouldReturnNextCursorWithoutCounting_whenCursorModeHasMoreRows() {
+        // Arrange
+        OffsetDateTime createdAt = OffsetDateTime.parse("2025-01-01T00:00:00.123456Z");
+        List<UrlEntity> rows = List.of(urlCreatedAt(3L, createdAt), urlCreatedAt(2L, createdAt), urlCreatedAt(1L, createdAt));
+        when(urlRepository.findBy(any(UrlSpecification.class), any())).thenReturn(rows);
+        when(urlMapper.toResponseDtoList(anyList())).thenReturn(List.of(createUrlResponse, createUrlResponse));
+
+        // Act
+        ApiPaginationResponse response = urlService.getAllUrlsByUserId(cursorRequest("", null), VALID_USER_ID);
+
+        // Assert
+        assertTrue(response.isFirstPage());
+        assertTrue(response.hasNextPage());
+        assertFalse(response.isLastPage());
+        assertNull(response.totalElements());
+        assertNull(response.pageNumber());
+        assertEquals(new UrlCursor(createdAt, 2L), UrlCursor.decode(response.nextCursor()));
+        verify(urlMapper).toResponseDtoList(rows.subList(0, 2));
+        verify(urlRepository, never()).count(any(UrlSpecification.class));
+        verify(urlRepository, never()).findAll(any(UrlSpecification.class), any(Pageable.class));
+    }
+
+    @Test
+    void getAllUrlsByUserId_shouldCountOnlyWhenRequested_inCursorMode() {
+        // Arrange
+        String cursor = new UrlCursor(OffsetDateTime.parse("2025-01-01T00:00:00Z"), 10L).encode();
+        when(urlRepository.findBy(any(UrlSpecification.class), any())).thenReturn(List.of(urlEntity));
+        when(urlRepository.count(any(UrlSpecification.class))).thenReturn(5L);
+        when(urlMapper.toResponseDtoList(anyList())).thenReturn(List.of(createUrlResponse));
+
+        // Act
+        ApiPaginationResponse response = urlService.getAllUrlsByUserId(cursorRequest(cursor, true), VALID_USER_ID);
+
+        // Assert
+        assertFalse(response.isFirstPage());
+        assertTrue(response.hasPreviousPage());
+        assertTrue(response.isLastPage());
+        assertNull(response.nextCursor());
+        assertEquals(5L, response.totalElements());
+        assertEquals(3, response.totalPages());
+    }
+
+    @Test
+    void getAllUrlsByUserId_shouldThrowUrlException_whenCursorIsMalformed() {
+        // Act & Assert
+        UrlException exception = assertThrows(UrlException.class,
+                () -> urlService.getAllUrlsByUserId(cursorRequest("not-a-cursor", null), VALID_USER_ID));
+
+        assertEquals(UrlException.URL_INVALID_CURSOR_CODE, exception.getErrorCode());
+        verifyNoInteractions(urlRepository);
+    }
+
     @Test
     void toggleUrlStatus_shouldToggleStatusSuccessfully_whenUrlExists() {
         // Arrange
@@ -324,7 +531,7 @@ class UrlServiceImplTest {
         when(urlRepository.findByIdAndUserIdAndNotDeleted(VALID_URL_ID, VALID_USER_ID))
                 .thenReturn(Optional.of(urlEntity));
         when(urlRepository.updateUrl(eq(VALID_URL_ID), eq(VALID_USER_ID), anyString(), anyString(),
-                anyString(), any(OffsetDateTime.class), any(OffsetDateTime.class), anyBoolean()))
+                eq(OriginalUrlHasher.hash(putUrlRequest.url())), anyString(), any(OffsetDateTime.class), any(OffsetDateTime.class), anyBoolean()))
                 .thenReturn(1);
         when(urlMapper.toPutResponseDto(urlEntity)).thenReturn(putUrlResponse);
 
@@ -338,7 +545,7 @@ class UrlServiceImplTest {
         assertEquals("https://new-example.com", response.originalUrl());
         verify(urlRepository).findByIdAndUserIdAndNotDeleted(VALID_URL_ID, VALID_USER_ID);
         verify(urlRepository).updateUrl(eq(VALID_URL_ID), eq(VALID_USER_ID), anyString(), anyString(),
-                anyString(), any(OffsetDateTime.class), any(OffsetDateTime.class), anyBoolean());
+                eq(OriginalUrlHasher.hash(putUrlRequest.url())), anyString(), any(OffsetDateTime.class), any(OffsetDateTime.class), anyBoolean());
         verify(urlMapper).toPutResponseDto(urlEntity);
     }
 
@@ -356,7 +563,7 @@ class UrlServiceImplTest {
         assertEquals(UrlException.URL_NOT_FOUND_MESSAGE, exception.getErrorMessage());
         assertEquals(UrlException.URL_NOT_FOUND_CAUSE, exception.getErrorCause());
         verify(urlRepository, never()).updateUrl(anyLong(), anyLong(), anyString(), anyString(),
-                anyString(), any(), any(), anyBoolean());
+                anyString(), anyString(), any(), any(), anyBoolean());
     }
 
     @Test
@@ -365,7 +572,7 @@ class UrlServiceImplTest {
         when(urlRepository.findByIdAndUserIdAndNotDeleted(VALID_URL_ID, VALID_USER_ID))
                 .thenReturn(Optional.of(urlEntity));
         when(urlRepository.updateUrl(eq(VALID_URL_ID), eq(VALID_USER_ID), anyString(), anyString(),
-                anyString(), any(OffsetDateTime.class), any(OffsetDateTime.class), anyBoolean()))
+                eq(OriginalUrlHasher.hash(putUrlRequest.url())), anyString(), any(OffsetDateTime.class), any(OffsetDateTime.class), anyBoolean()))
                 .thenReturn(0);
 
         // Act & Assert
@@ -377,6 +584,40 @@ class UrlServiceImplTest {
         assertEquals(UrlException.URL_UPDATE_FAILED_CAUSE, exception.getErrorCause());
     }
 
+    @Test
+    void updateUrl_shouldThrowUrlException_whenAliasIsAlreadyInUse() {
+        // Arrange
+        when(urlRepository.findByIdAndUserIdAndNotDeleted(VALID_URL_ID, VALID_USER_ID))
+                .thenReturn(Optional.of(urlEntity));
+        when(urlRepository.updateUrl(eq(VALID_URL_ID), eq(VALID_USER_ID), anyString(), anyString(),
+                eq(OriginalUrlHasher.hash(putUrlRequest.url())), anyString(), any(OffsetDateTime.class), any(OffsetDateTime.class), anyBoolean()))
+                .thenThrow(new DataIntegrityViolationException(
+                        "duplicate key value violates unique constraint \"pk_url_code\""));
+
+        // Act & Assert
+        UrlException exception = assertThrows(UrlException.class,
+                () -> urlService.updateUrl(putUrlRequest, VALID_URL_ID, VALID_USER_ID));
+
+        assertEquals(UrlException.URL_ALIAS_ALREADY_EXISTS_CODE, exception.getErrorCode());
+        assertEquals(UrlException.URL_ALIAS_ALREADY_EXISTS_MESSAGE, exception.getErrorMessage());
+        assertEquals(UrlException.URL_ALIAS_ALREADY_EXISTS_CAUSE, exception.getErrorCause());
+        verify(urlMapper, never()).toPutResponseDto(any());
+    }
+
+    @Test
+    void updateUrl_shouldRethrow_whenIntegrityViolationIsNotAliasConflict() {
+        // Arrange
+        when(urlRepository.findByIdAndUserIdAndNotDeleted(VALID_URL_ID, VALID_USER_ID))
+                .thenReturn(Optional.of(urlEntity));
+        when(urlRepository.updateUrl(eq(VALID_URL_ID), eq(VALID_USER_ID), anyString(), anyString(),
+                eq(OriginalUrlHasher.hash(putUrlRequest.url())), anyString(), any(OffsetDateTime.class), any(OffsetDateTime.class), anyBoolean()))
+                .thenThrow(new DataIntegrityViolationException("null value in column \"original_url\""));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class,
+                () -> urlService.updateUrl(putUrlRequest, VALID_URL_ID, VALID_USER_ID));
+    }
+
     @Test
     void deleteUrl_shouldDeleteUrlSuccessfully_whenUrlExists() {
         // Arrange
@@ -392,6 +633,7 @@ class UrlServiceImplTest {
         assertTrue(response.isDeleted());
         verify(urlRepository).findByIdAndUserIdAndNotDeleted(VALID_URL_ID, VALID_USER_ID);
         verify(urlRepository).softDeleteUrl(VALID_URL_ID, VALID_USER_ID);
+        verify(urlSearchIndex).remove(VALID_USER_ID, VALID_URL_ID);
     }
 
     @Test
@@ -0,0 +1,35 @@
+package com.java.admin.unit.service.user;
+
+import com.java.admin.config.CacheConfig;
+import com.java.admin.event.UserChangedEvent;
+import com.java.admin.service.user.UserCacheInvalidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserCacheInvalidatorTest {
+
+    @Test
+    void onUserChanged_shouldEvictOnlyTheChangedUser() {
+        // Arrange
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
+                CacheConfig.USER_DETAILS_CACHE, CacheConfig.USER_PROFILE_CACHE);
+        Cache userDetails = cacheManager.getCache(CacheConfig.USER_DETAILS_CACHE);
+        Cache userProfile = cacheManager.getCache(CacheConfig.USER_PROFILE_CACHE);
+        userDetails.put("changed@example.com", "details");
+        userDetails.put("other@example.com", "details");
+        userProfile.put(1L, "profile");
+        userProfile.put(2L, "profile");
+
+        // Act
+        new UserCacheInvalidator(cacheManager).onUserChanged(new UserChangedEvent(1L, "changed@example.com"));
+
+        // Assert
+        assertNull(userDetails.get("changed@example.com"));
+        assertNull(userProfile.get(1L));
+        assertNotNull(userDetails.get("other@example.com"));
+        assertNotNull(userProfile.get(2L));
+    }
+}
@@ -4,6 +4,7 @@ import com.java.admin.dto.user.request.UpdateUserRequestDto;
 import com.java.admin.dto.user.response.GetUserResponseDto;
 import com.java.admin.dto.user.response.UpdateUserResponseDto;
 import com.java.admin.entity.user.UserEntity;
+import com.java.admin.event.UserChangedEvent;
 import com.java.admin.exception.user.UserException;
 import com.java.admin.mapper.user.UserMapper;
 import com.java.admin.repository.user.UserRepository;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.OffsetDateTime;
 import java.util.Optional;
@@ -32,6 +34,9 @@ class UserServiceImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -146,6 +151,7 @@ class UserServiceImplTest {
 
         verify(userRepository).findUserEntityById(VALID_USER_ID);
         verify(userRepository).save(userEntity);
+        verify(applicationEventPublisher).publishEvent(new UserChangedEvent(userEntity.getId(), userEntity.getEmail()));
 
         // Verificar que los campos se actualizaron en la entidad
         assertEquals(VALID_USERNAME, userEntity.getUsername());
@@ -0,0 +1,52 @@
+package com.java.admin.unit.util;
+
+import com.java.admin.util.CsvReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    private static List<List<String>> readAll(String csv, int maxRecordLength) {
+        CsvReader reader = new CsvReader(new BufferedReader(new StringReader(csv)), maxRecordLength);
+        List<List<String>> records = new ArrayList<>();
+        reader.forEachRemaining(records::add);
+        return records;
+    }
+
+    @Test
+    void next_shouldSplitPlainAndQuotedFields() {
+        // Act
+        List<List<String>> records = readAll("a,b,c\r\n\"x, y\",\"say \"\"hi\"\"\",\n", 1_000);
+
+        // Assert
+        assertEquals(List.of(List.of("a", "b", "c"), List.of("x, y", "say \"hi\"", "")), records);
+    }
+
+    @Test
+    void next_shouldKeepLineBreaksInsideQuotes_andSkipBlankLines() {
+        // Act
+        List<List<String>> records = readAll("\n\"line 1\nline 2\",z\n\n\nlast", 1_000);
+
+        // Assert
+        assertEquals(List.of(List.of("line 1\nline 2", "z"), List.of("last")), records);
+    }
+
+    @Test
+    void next_shouldThrowException_whenRecordExceedsLimit() {
+        // Act & Assert
+        assertThrows(UncheckedIOException.class, () -> readAll("\"unterminated quote " + "x".repeat(100), 50));
+    }
+
+    @Test
+    void next_shouldThrowException_whenQuoteIsNotClosed() {
+        // Act & Assert
+        assertThrows(UncheckedIOException.class, () -> readAll("a,\"open", 1_000));
+    }
+}
@@ -0,0 +1,55 @@
+package com.java.admin.unit.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.admin.util.NdjsonReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonReaderTest {
+
+    private static List<Map<?, ?>> readAll(String ndjson, int maxLineLength) {
+        NdjsonReader<Map<?, ?>> reader = new NdjsonReader<>(new BufferedReader(new StringReader(ndjson)),
+                new ObjectMapper().readerFor(Map.class), maxLineLength);
+        List<Map<?, ?>> values = new ArrayList<>();
+        reader.forEachRemaining(values::add);
+        return values;
+    }
+
+    @Test
+    void next_shouldParseEachLine_andSkipBlankLines() {
+        // Act
+        List<Map<?, ?>> values = readAll("{\"a\":1}\r\n\n  \n{\"b\":2}", 1_000);
+
+        // Assert
+        assertEquals(List.of(Map.of("a", 1), Map.of("b", 2)), values);
+    }
+
+    @Test
+    void next_shouldReturnNull_whenLineDoesNotParse() {
+        // Act
+        List<Map<?, ?>> values = readAll("not json\n{\"a\":1}\n", 1_000);
+
+        // Assert
+        assertEquals(2, values.size());
+        assertNull(values.get(0));
+        assertEquals(Map.of("a", 1), values.get(1));
+    }
+
+    @Test
+    void next_shouldReturnNull_andKeepReading_whenLineExceedsLimit() {
+        // Act
+        List<Map<?, ?>> values = readAll("{\"a\":\"" + "x".repeat(1_000) + "\"}\n{\"b\":2}\n", 50);
+
+        // Assert
+        assertEquals(2, values.size());
+        assertNull(values.get(0));
+        assertEquals(Map.of("b", 2), values.get(1));
+    }
+}
@@ -0,0 +1,42 @@
+package com.java.admin.unit.util;
+
+import com.java.admin.util.OriginalUrlHasher;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OriginalUrlHasherTest {
+
+    @Test
+    void normalize_shouldIgnoreBlanksCaseOfSchemeAndHostDefaultPortAndEmptyPath() {
+        // Act & Assert
+        assertEquals("https://example.com/", OriginalUrlHasher.normalize("  HTTPS://Example.COM:443 "));
+        assertEquals("http://example.com/", OriginalUrlHasher.normalize("http://example.com:80"));
+        assertEquals("http://example.com:8080/a", OriginalUrlHasher.normalize("http://EXAMPLE.com:8080/a"));
+    }
+
+    @Test
+    void normalize_shouldKeepPathQueryAndFragmentAsSent() {
+        // Act & Assert
+        assertEquals("https://example.com/Path%2Fx?Q=%26a#Top",
+                OriginalUrlHasher.normalize("https://example.com/Path%2Fx?Q=%26a#Top"));
+    }
+
+    @Test
+    void normalize_shouldReturnTrimmedInput_whenUrlCannotBeParsed() {
+        // Act & Assert
+        assertEquals("not a url", OriginalUrlHasher.normalize(" not a url "));
+        assertEquals("mailto:someone@example.com", OriginalUrlHasher.normalize("mailto:someone@example.com"));
+    }
+
+    @Test
+    void hash_shouldBe64HexCharacters_andEqualForEquivalentUrls() {
+        // Act
+        String hash = OriginalUrlHasher.hash("https://example.com/a");
+
+        // Assert
+        assertTrue(hash.matches("[0-9a-f]{64}"));
+        assertEquals(hash, OriginalUrlHasher.hash("HTTPS://EXAMPLE.COM:443/a"));
+        assertNotEquals(hash, OriginalUrlHasher.hash("https://example.com/A"));
+    }
+}
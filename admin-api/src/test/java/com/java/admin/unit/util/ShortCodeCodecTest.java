@@ -0,0 +1,94 @@
+package com.java.admin.unit.util;
+
+import com.java.admin.config.ShortCodePropertiesConfig;
+import com.java.admin.util.ShortCodeCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShortCodeCodecTest {
+
+    private static final String SECRET = "test-short-code-secret";
+
+    private ShortCodeCodec shortCodeCodec;
+
+    @BeforeEach
+    void setUp() {
+        shortCodeCodec = new ShortCodeCodec(new ShortCodePropertiesConfig(SECRET, false, 1_000));
+    }
+
+    @Test
+    void encode_shouldReturnSevenCharacterBase62Code() {
+        // Act
+        String code = shortCodeCodec.encode(1L);
+
+        // Assert
+        assertEquals(ShortCodeCodec.CODE_LENGTH, code.length());
+        assertTrue(code.matches("^[A-Za-z0-9]{7}$"));
+    }
+
+    @Test
+    void decode_shouldReturnOriginalId_whenCodeWasEncoded() {
+        // Arrange
+        long[] ids = {0L, 1L, 2L, 1_000L, 123_456_789L, ShortCodeCodec.CODE_SPACE - 1};
+
+        for (long id : ids) {
+            // Act
+            long decoded = shortCodeCodec.decode(shortCodeCodec.encode(id));
+
+            // Assert
+            assertEquals(id, decoded);
+        }
+    }
+
+    @Test
+    void encode_shouldNeverRepeatCode_forConsecutiveIds() {
+        // Arrange
+        Set<String> codes = new HashSet<>();
+
+        // Act
+        for (long id = 1; id <= 100_000; id++) {
+            codes.add(shortCodeCodec.encode(id));
+        }
+
+        // Assert
+        assertEquals(100_000, codes.size());
+    }
+
+    @Test
+    void encode_shouldDependOnSecret() {
+        // Arrange
+        ShortCodeCodec otherCodec = new ShortCodeCodec(new ShortCodePropertiesConfig("another-secret", false, 1_000));
+
+        // Act & Assert
+        assertNotEquals(shortCodeCodec.encode(42L), otherCodec.encode(42L));
+    }
+
+    @Test
+    void encode_shouldThrowException_whenIdIsOutOfRange() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> shortCodeCodec.encode(-1L));
+        assertThrows(IllegalArgumentException.class, () -> shortCodeCodec.encode(ShortCodeCodec.CODE_SPACE));
+    }
+
+    @Test
+    void decode_shouldThrowException_whenCodeIsInvalid() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> shortCodeCodec.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> shortCodeCodec.decode("abc"));
+        assertThrows(IllegalArgumentException.class, () -> shortCodeCodec.decode("abc-def"));
+    }
+
+    @Test
+    void constructor_shouldThrowException_whenSecretIsBlank() {
+        // Arrange
+        ShortCodePropertiesConfig config = new ShortCodePropertiesConfig(" ", false, 1_000);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new ShortCodeCodec(config));
+    }
+}
@@ -0,0 +1,32 @@
+package com.java.listener.cache;
+
+import java.time.OffsetDateTime;
+
+/**
+ * What the redirect path keeps per short code: the target and its validity window as epoch
+ * millis, half open [from, until). Inactive and deleted links are stored as a tombstone with an
+ * empty window, so they are answered from memory like any other link.
+ */
+public record CachedRedirect(String originalUrl, long fromMillis, long untilMillis) {
+
+    private static final CachedRedirect TOMBSTONE = new CachedRedirect(null, 0L, 0L);
+
+    public static CachedRedirect of(String originalUrl, OffsetDateTime validSince, OffsetDateTime validUntil) {
+        long from = validSince == null ? Long.MIN_VALUE : validSince.toInstant().toEpochMilli();
+        long until = validUntil == null ? Long.MAX_VALUE : validUntil.toInstant().toEpochMilli();
+        return until > from ? new CachedRedirect(originalUrl, from, until) : TOMBSTONE;
+    }
+
+    public static CachedRedirect of(String originalUrl, boolean active, boolean deleted,
+                                    OffsetDateTime validSince, OffsetDateTime validUntil) {
+        return active && !deleted ? of(originalUrl, validSince, validUntil) : TOMBSTONE;
+    }
+
+    /**
+     * from <= now < until as one comparison: now - from wraps to a huge unsigned value when now
+     * is before the window, and an empty window has width zero.
+     */
+    public boolean isRedirectableAt(long nowMillis) {
+        return Long.compareUnsigned(nowMillis - fromMillis, untilMillis - fromMillis) < 0;
+    }
+}
@@ -0,0 +1,161 @@
+package com.java.listener.cache;
+
+import com.java.listener.config.CustomLogger;
+import com.java.listener.config.FilterPropertiesConfig;
+import com.java.listener.repository.UrlCodeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Probabilistic index of every code in url_code, short codes and aliases alike. A code rejected
+ * by the index was not in url_code at the last scan. Codes created since then are only missing
+ * from the filter, so a rejection first runs an incremental refresh, at most once per
+ * {@code listener.filter.miss-refresh-interval}, and is only final when the code is still absent
+ * after it. Until the first build finishes every code is reported as a possible member.
+ */
+@Component
+public class ShortUrlMembershipIndex {
+
+    private final UrlCodeRepository urlCodeRepository;
+    private final FilterPropertiesConfig filterPropertiesConfig;
+    private final UrlResolutionCache urlResolutionCache;
+    private final Counter rejections;
+
+    private final Object rebuildLock = new Object();
+    private final AtomicBoolean missRefreshRunning = new AtomicBoolean();
+
+    private volatile ShortUrlBloomFilter filter;
+    private long lastLoadedCount;
+    private OffsetDateTime lastScanStartedAt;
+    private volatile long lastScanStartedNanos;
+
+    public ShortUrlMembershipIndex(UrlCodeRepository urlCodeRepository,
+                                   FilterPropertiesConfig filterPropertiesConfig,
+                                   UrlResolutionCache urlResolutionCache,
+                                   MeterRegistry meterRegistry) {
+        this.urlCodeRepository = urlCodeRepository;
+        this.filterPropertiesConfig = filterPropertiesConfig;
+        this.urlResolutionCache = urlResolutionCache;
+        this.rejections = Counter.builder("listener.filter.rejections")
+                .description("Lookups answered as not found by the membership filter")
+                .register(meterRegistry);
+    }
+
+    public boolean mightContain(String shortUrl) {
+        ShortUrlBloomFilter current = filter;
+        if (current == null || current.mightContain(shortUrl) || refreshOnMiss(shortUrl)) {
+            return true;
+        }
+        rejections.increment();
+        return false;
+    }
+
+    /**
+     * Builds a fresh filter from the whole table and swaps it in. Sized from the previous row
+     * count so the false positive rate holds as the table grows.
+     */
+    @Scheduled(fixedDelayString = "${listener.filter.rebuild-interval:PT6H}")
+    public void rebuild() {
+        if (!filterPropertiesConfig.isEnabled()) {
+            return;
+        }
+
+        // The scan runs outside the index monitor so refreshes keep going while it streams
+        synchronized (rebuildLock) {
+            long started = System.currentTimeMillis();
+            long scanStartedNanos = System.nanoTime();
+            OffsetDateTime scanStartedAt = OffsetDateTime.now();
+            try {
+                long expected = Math.max(filterPropertiesConfig.getExpectedInsertions(), lastLoadedCount * 2);
+                ShortUrlBloomFilter rebuilt = new ShortUrlBloomFilter(expected, filterPropertiesConfig.getFalsePositiveProbability());
+
+                long[] count = {0};
+                scanAll(code -> {
+                    rebuilt.put(code);
+                    count[0]++;
+                });
+
+                // Codes committed behind the scan are picked up by the next refresh, which starts from here
+                synchronized (this) {
+                    filter = rebuilt;
+                    lastLoadedCount = count[0];
+                    lastScanStartedAt = scanStartedAt;
+                    lastScanStartedNanos = scanStartedNanos;
+                }
+
+                CustomLogger.logInfo(ShortUrlMembershipIndex.class, "Membership filter rebuilt with " + count[0] +
+                        " codes in " + (System.currentTimeMillis() - started) + " ms");
+            } catch (RuntimeException e) {
+                CustomLogger.logError(ShortUrlMembershipIndex.class, "Membership filter rebuild failed, keeping previous filter", e);
+            }
+        }
+    }
+
+    /**
+     * Adds codes created since the previous scan, including aliases set on existing links. The
+     * window is widened by the configured overlap because commits do not arrive in order. Added
+     * codes are dropped from the negative cache so they resolve immediately.
+     */
+    @Scheduled(fixedDelayString = "${listener.filter.refresh-interval:PT5S}")
+    public synchronized void refresh() {
+        ShortUrlBloomFilter current = filter;
+        if (current == null) {
+            return;
+        }
+
+        long scanStartedNanos = System.nanoTime();
+        OffsetDateTime scanStartedAt = OffsetDateTime.now();
+        try {
+            OffsetDateTime since = lastScanStartedAt.minus(filterPropertiesConfig.getRefreshOverlap());
+            for (String code : urlCodeRepository.findCodesCreatedSince(since)) {
+                current.put(code);
+                urlResolutionCache.clearMissing(code);
+            }
+            lastScanStartedAt = scanStartedAt;
+            lastScanStartedNanos = scanStartedNanos;
+        } catch (RuntimeException e) {
+            CustomLogger.logError(ShortUrlMembershipIndex.class, "Membership filter refresh failed", e);
+        }
+    }
+
+    /**
+     * A code rejected by the filter may have been created after the last scan started. Refreshes
+     * once if that scan is older than the miss refresh interval, so a link used right after it was
+     * created resolves, while a stream of unknown codes costs at most one query per interval. Only
+     * the caller that wins the flag runs the query; misses arriving meanwhile are rejected right
+     * away instead of queueing behind it.
+     */
+    private boolean refreshOnMiss(String shortUrl) {
+        if (System.nanoTime() - lastScanStartedNanos < filterPropertiesConfig.getMissRefreshInterval().toNanos()
+                || !missRefreshRunning.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            refresh();
+        } finally {
+            missRefreshRunning.set(false);
+        }
+        return filter.mightContain(shortUrl);
+    }
+
+    private void scanAll(Consumer<String> consumer) {
+        String lastCode = "";
+        int batchSize = filterPropertiesConfig.getLoadBatchSize();
+
+        List<String> codes;
+        do {
+            codes = urlCodeRepository.findCodesAfter(lastCode, batchSize);
+            for (String code : codes) {
+                consumer.accept(code);
+                lastCode = code;
+            }
+        } while (codes.size() == batchSize);
+    }
+}
@@ -0,0 +1,88 @@
+package com.java.listener.cache;
+
+import com.java.listener.config.CustomLogger;
+import com.java.listener.config.WarmupPropertiesConfig;
+import com.java.listener.dto.ShortUrlTargetDto;
+import com.java.listener.repository.UrlRedirectLookupRepository;
+import com.java.listener.usecase.IListenerUrlEventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fills the resolution cache with the most clicked and most recently created links, then runs
+ * the lookup path over them so the JIT has compiled it before real traffic arrives. Spring Boot
+ * only moves readiness to ACCEPTING_TRAFFIC after every ApplicationRunner has returned, so the
+ * readiness probe stays down for the duration of the warm-up.
+ */
+@Component
+public class UrlCacheWarmer implements ApplicationRunner {
+
+    private final WarmupPropertiesConfig warmupPropertiesConfig;
+    private final UrlRedirectLookupRepository urlRedirectLookupRepository;
+    private final UrlResolutionCache urlResolutionCache;
+    private final IListenerUrlEventService listenerUrlEventService;
+    private final Timer warmupTimer;
+
+    public UrlCacheWarmer(WarmupPropertiesConfig warmupPropertiesConfig,
+                          UrlRedirectLookupRepository urlRedirectLookupRepository,
+                          UrlResolutionCache urlResolutionCache,
+                          IListenerUrlEventService listenerUrlEventService,
+                          MeterRegistry meterRegistry) {
+        this.warmupPropertiesConfig = warmupPropertiesConfig;
+        this.urlRedirectLookupRepository = urlRedirectLookupRepository;
+        this.urlResolutionCache = urlResolutionCache;
+        this.listenerUrlEventService = listenerUrlEventService;
+        this.warmupTimer = Timer.builder("listener.warmup.duration")
+                .description("Time spent warming the cache before accepting traffic")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!warmupPropertiesConfig.isEnabled()) {
+            return;
+        }
+        warmupTimer.record(this::warmUp);
+    }
+
+    public void warmUp() {
+        long started = System.currentTimeMillis();
+        try {
+            Set<String> codes = new LinkedHashSet<>();
+            preload(urlRedirectLookupRepository.findMostClicked(warmupPropertiesConfig.getMostClicked()), codes);
+            preload(urlRedirectLookupRepository.findMostRecent(warmupPropertiesConfig.getMostRecent()), codes);
+
+            exerciseLookups(new ArrayList<>(codes));
+
+            CustomLogger.logInfo(UrlCacheWarmer.class, "Cache warmed with " + codes.size() + " short codes in " +
+                    (System.currentTimeMillis() - started) + " ms");
+        } catch (RuntimeException e) {
+            // A cold cache is slower, not broken, so startup continues
+            CustomLogger.logError(UrlCacheWarmer.class, "Cache warm-up failed, starting with a cold cache", e);
+        }
+    }
+
+    private void preload(List<ShortUrlTargetDto> rows, Set<String> codes) {
+        for (ShortUrlTargetDto row : rows) {
+            urlResolutionCache.put(row.shortUrl(), CachedRedirect.of(row.originalUrl(), row.validSince(), row.validUntil()));
+            codes.add(row.shortUrl());
+        }
+    }
+
+    private void exerciseLookups(List<String> codes) {
+        if (codes.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < warmupPropertiesConfig.getLookupIterations(); i++) {
+            listenerUrlEventService.resolveOriginalUrl(codes.get(i % codes.size()));
+        }
+    }
+}
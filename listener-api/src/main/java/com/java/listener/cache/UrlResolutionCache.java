@@ -0,0 +1,78 @@
+package com.java.listener.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.java.listener.config.CachePropertiesConfig;
+import com.java.listener.config.FilterPropertiesConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+@Component
+public class UrlResolutionCache {
+
+    public static final String CACHE_NAME = "listener.url.resolution";
+    public static final String NEGATIVE_CACHE_NAME = "listener.url.negative";
+
+    private final Cache<String, CachedRedirect> cache;
+    private final Cache<String, Boolean> negativeCache;
+
+    public UrlResolutionCache(CachePropertiesConfig cachePropertiesConfig,
+                              FilterPropertiesConfig filterPropertiesConfig,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cachePropertiesConfig.getMaximumSize())
+                .expireAfterWrite(cachePropertiesConfig.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        this.negativeCache = Caffeine.newBuilder()
+                .maximumSize(filterPropertiesConfig.getNegativeCacheMaximumSize())
+                .expireAfterWrite(filterPropertiesConfig.getNegativeCacheExpireAfterWrite())
+                .recordStats()
+                .build();
+
+        // Exposes cache.gets{result=hit|miss}, cache.evictions and cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, negativeCache, NEGATIVE_CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached redirect for the short code, calling the loader only on a miss.
+     * Concurrent misses for the same code share a single load; a null result is not cached.
+     */
+    public CachedRedirect get(String shortUrl, Function<String, CachedRedirect> loader) {
+        return cache.get(shortUrl, loader);
+    }
+
+    public void put(String shortUrl, CachedRedirect redirect) {
+        cache.put(shortUrl, redirect);
+    }
+
+    public void invalidate(String shortUrl) {
+        cache.invalidate(shortUrl);
+    }
+
+    // Short lived record of codes the database did not know, for codes the filter lets through
+    public boolean isKnownMissing(String shortUrl) {
+        return negativeCache.getIfPresent(shortUrl) != null;
+    }
+
+    public void markMissing(String shortUrl) {
+        negativeCache.put(shortUrl, Boolean.TRUE);
+    }
+
+    public void clearMissing(String shortUrl) {
+        negativeCache.invalidate(shortUrl);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,280 @@
+package com.java.listener.cache;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Read only, memory mapped short code to URL table.
+ *
+ * <pre>
+ * header  magic, format version, created at (epoch millis), entry count, slot count, data length, CRC32
+ * slots   open addressing table of (hash, data offset + 1) pairs, zero offset marks an empty slot
+ * data    per entry: code length (short), code UTF-8, url id (long), valid from and until
+ *         (epoch millis), URL length (int), URL UTF-8
+ * </pre>
+ *
+ * The checksum covers slots and data. Lookups read the mapped pages directly, so opening a large
+ * snapshot costs one sequential checksum pass and no heap beyond the page cache.
+ */
+public final class UrlSnapshot {
+
+    public static final int MAGIC = 0x53555253; // "SURS"
+    public static final int FORMAT_VERSION = 3;
+
+    private static final int HEADER_SIZE = 32;
+    private static final int SLOT_SIZE = 8;
+
+    private final MappedByteBuffer buffer;
+    private final long createdAtMillis;
+    private final int entryCount;
+    private final int slotMask;
+    private final int dataStart;
+
+    private UrlSnapshot(MappedByteBuffer buffer, long createdAtMillis, int entryCount, int slotCount) {
+        this.buffer = buffer;
+        this.createdAtMillis = createdAtMillis;
+        this.entryCount = entryCount;
+        this.slotMask = slotCount - 1;
+        this.dataStart = HEADER_SIZE + slotCount * SLOT_SIZE;
+    }
+
+    /**
+     * Maps and validates the file. Throws when the file is truncated, was written by another
+     * format version or fails the checksum; callers fall back to the database in that case.
+     */
+    public static UrlSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot size " + fileSize + " is out of range");
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            buffer.order(ByteOrder.BIG_ENDIAN);
+
+            int magic = buffer.getInt(0);
+            int version = buffer.getInt(4);
+            long createdAtMillis = buffer.getLong(8);
+            int entryCount = buffer.getInt(16);
+            int slotCount = buffer.getInt(20);
+            int dataLength = buffer.getInt(24);
+            int checksum = buffer.getInt(28);
+
+            if (magic != MAGIC) {
+                throw new IOException("Not a snapshot file");
+            }
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + ", expected " + FORMAT_VERSION);
+            }
+            if (slotCount <= 0 || Integer.bitCount(slotCount) != 1 || entryCount < 0 || entryCount > slotCount
+                    || HEADER_SIZE + (long) slotCount * SLOT_SIZE + dataLength != fileSize) {
+                throw new IOException("Snapshot header does not match file size " + fileSize);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(HEADER_SIZE, (int) fileSize - HEADER_SIZE));
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+
+            return new UrlSnapshot(buffer, createdAtMillis, entryCount, slotCount);
+        }
+    }
+
+    public static Writer writer(Path target) throws IOException {
+        return new Writer(target);
+    }
+
+    public Entry get(String shortUrl) {
+        byte[] code = shortUrl.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(code);
+
+        for (int slot = hash & slotMask; ; slot = (slot + 1) & slotMask) {
+            int position = HEADER_SIZE + slot * SLOT_SIZE;
+            int offset = buffer.getInt(position + 4);
+            if (offset == 0) {
+                return null;
+            }
+            if (buffer.getInt(position) == hash) {
+                int entry = dataStart + offset - 1;
+                if (codeEquals(entry, code)) {
+                    int idPosition = entry + 2 + code.length;
+                    int urlPosition = idPosition + 24;
+                    byte[] url = new byte[buffer.getInt(urlPosition)];
+                    buffer.get(urlPosition + 4, url);
+                    return new Entry(buffer.getLong(idPosition), new CachedRedirect(new String(url, StandardCharsets.UTF_8),
+                            buffer.getLong(idPosition + 8), buffer.getLong(idPosition + 16)));
+                }
+            }
+        }
+    }
+
+    public long createdAtMillis() {
+        return createdAtMillis;
+    }
+
+    public int size() {
+        return entryCount;
+    }
+
+    private boolean codeEquals(int entry, byte[] code) {
+        if (buffer.getShort(entry) != code.length) {
+            return false;
+        }
+        for (int i = 0; i < code.length; i++) {
+            if (buffer.get(entry + 2 + i) != code[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(byte[] code) {
+        // Stable across JVMs, murmur3 finalizer spreads the low bits used for the slot index
+        int h = Arrays.hashCode(code);
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    // The url id lets the store skip every code of a link changed after the snapshot was taken
+    public record Entry(long urlId, CachedRedirect redirect) {
+    }
+
+    /**
+     * Streams entries to a side file, then lays out the slot table and publishes the finished
+     * snapshot with an atomic rename, so readers never see a partially written file.
+     */
+    public static final class Writer implements Closeable {
+
+        private final Path target;
+        private final Path dataFile;
+        private final DataOutputStream data;
+
+        private int[] hashes = new int[1024];
+        private int[] offsets = new int[1024];
+        private int count;
+        private long dataLength;
+
+        private Writer(Path target) throws IOException {
+            this.target = target;
+            Path directory = target.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            this.dataFile = Files.createTempFile(directory, target.getFileName().toString(), ".data");
+            this.data = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(dataFile)));
+        }
+
+        public void add(String shortUrl, long urlId, CachedRedirect redirect) throws IOException {
+            byte[] code = shortUrl.getBytes(StandardCharsets.UTF_8);
+            byte[] url = redirect.originalUrl().getBytes(StandardCharsets.UTF_8);
+            if (code.length > Short.MAX_VALUE) {
+                throw new IOException("Short code too long for snapshot: " + code.length + " bytes");
+            }
+
+            if (count == hashes.length) {
+                hashes = Arrays.copyOf(hashes, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            hashes[count] = hash(code);
+            offsets[count] = (int) dataLength;
+            count++;
+
+            data.writeShort(code.length);
+            data.write(code);
+            data.writeLong(urlId);
+            data.writeLong(redirect.fromMillis());
+            data.writeLong(redirect.untilMillis());
+            data.writeInt(url.length);
+            data.write(url);
+            dataLength += 2L + code.length + 24L + 4L + url.length;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public void commit(long createdAtMillis) throws IOException {
+            data.close();
+
+            // Load factor at most 0.5 keeps probe sequences short
+            int slotCount = Integer.highestOneBit(Math.max(2, count * 2 - 1)) << 1;
+            long fileSize = HEADER_SIZE + (long) slotCount * SLOT_SIZE + dataLength;
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot of " + fileSize + " bytes exceeds the 2 GB mapping limit");
+            }
+
+            ByteBuffer slots = ByteBuffer.allocate(slotCount * SLOT_SIZE).order(ByteOrder.BIG_ENDIAN);
+            int mask = slotCount - 1;
+            for (int i = 0; i < count; i++) {
+                int slot = hashes[i] & mask;
+                while (slots.getInt(slot * SLOT_SIZE + 4) != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots.putInt(slot * SLOT_SIZE, hashes[i]);
+                slots.putInt(slot * SLOT_SIZE + 4, offsets[i] + 1);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(slots.array());
+            try (InputStream in = Files.newInputStream(dataFile)) {
+                byte[] chunk = new byte[64 * 1024];
+                for (int read; (read = in.read(chunk)) != -1; ) {
+                    crc.update(chunk, 0, read);
+                }
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(createdAtMillis)
+                    .putInt(count)
+                    .putInt(slotCount)
+                    .putInt((int) dataLength)
+                    .putInt((int) crc.getValue())
+                    .flip();
+
+            Path partial = target.resolveSibling(target.getFileName() + ".tmp");
+            try (FileChannel out = FileChannel.open(partial, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+                 FileChannel in = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+                writeFully(out, header);
+                writeFully(out, slots.rewind());
+                for (long position = 0; position < dataLength; ) {
+                    position += in.transferTo(position, dataLength - position, out);
+                }
+                out.force(true);
+            }
+
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        @Override
+        public void close() throws IOException {
+            data.close();
+            Files.deleteIfExists(dataFile);
+        }
+
+        private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
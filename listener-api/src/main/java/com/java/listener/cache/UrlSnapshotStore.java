@@ -0,0 +1,224 @@
+package com.java.listener.cache;
+
+import com.java.listener.config.CustomLogger;
+import com.java.listener.config.SnapshotPropertiesConfig;
+import com.java.listener.dto.ShortUrlKeyDto;
+import com.java.listener.dto.ShortUrlTargetDto;
+import com.java.listener.repository.UrlRedirectLookupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Warm start for the resolution cache. The listener periodically writes every live code with its
+ * validity window to a local {@link UrlSnapshot}; on the next start that file is mapped before
+ * traffic arrives and answers cache misses that would otherwise all go to Postgres. Links updated
+ * since the snapshot was taken are marked before the first lookup and then again by a background
+ * catch-up, so they are read from the database instead, and the snapshot is retired once the cache
+ * has had time to fill. A snapshot older than the configured maximum age is not served at all.
+ */
+@Component
+public class UrlSnapshotStore {
+
+    private final SnapshotPropertiesConfig snapshotPropertiesConfig;
+    private final UrlRedirectLookupRepository urlRedirectLookupRepository;
+    private final UrlResolutionCache urlResolutionCache;
+    private final MeterRegistry meterRegistry;
+    private final Counter hits;
+
+    private final Set<Long> changedSinceSnapshot = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<String>> promotedCodes = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private volatile UrlSnapshot snapshot;
+    private Instant retireAt;
+    private OffsetDateTime lastCatchUpAt;
+
+    public UrlSnapshotStore(SnapshotPropertiesConfig snapshotPropertiesConfig,
+                            UrlRedirectLookupRepository urlRedirectLookupRepository,
+                            UrlResolutionCache urlResolutionCache,
+                            MeterRegistry meterRegistry) {
+        this.snapshotPropertiesConfig = snapshotPropertiesConfig;
+        this.urlRedirectLookupRepository = urlRedirectLookupRepository;
+        this.urlResolutionCache = urlResolutionCache;
+        this.meterRegistry = meterRegistry;
+        this.hits = Counter.builder("listener.snapshot.hits")
+                .description("Cache misses answered from the startup snapshot")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void load() {
+        // Registered here rather than in the constructor, which must not hand out this
+        Gauge.builder("listener.snapshot.entries", this, store -> {
+                    UrlSnapshot current = store.snapshot;
+                    return current == null ? 0 : current.size();
+                })
+                .description("Short codes in the snapshot being served, zero once retired")
+                .register(meterRegistry);
+
+        Path path = Path.of(snapshotPropertiesConfig.getPath());
+        if (!snapshotPropertiesConfig.isEnabled() || !Files.exists(path)) {
+            return;
+        }
+
+        UrlSnapshot opened;
+        try {
+            opened = UrlSnapshot.open(path);
+        } catch (IOException e) {
+            CustomLogger.logError(UrlSnapshotStore.class, "Ignoring unusable snapshot " + path, e);
+            return;
+        }
+
+        Instant takenAt = Instant.ofEpochMilli(opened.createdAtMillis());
+        if (takenAt.isBefore(Instant.now().minus(snapshotPropertiesConfig.getMaxAge()))) {
+            CustomLogger.logWarning(UrlSnapshotStore.class, "Ignoring snapshot taken at " + takenAt +
+                    ", older than " + snapshotPropertiesConfig.getMaxAge());
+            return;
+        }
+
+        // Nothing is served until the changes made since the snapshot are known
+        OffsetDateTime startedAt = OffsetDateTime.now();
+        try {
+            markChangedSince(OffsetDateTime.ofInstant(takenAt, ZoneOffset.UTC));
+        } catch (RuntimeException e) {
+            CustomLogger.logError(UrlSnapshotStore.class, "Ignoring snapshot, initial catch-up failed", e);
+            return;
+        }
+        lastCatchUpAt = startedAt;
+        retireAt = Instant.now().plus(snapshotPropertiesConfig.getServeFor());
+        snapshot = opened;
+
+        CustomLogger.logInfo(UrlSnapshotStore.class, "Serving " + opened.size() +
+                " short codes from snapshot taken at " + takenAt + ", " + changedSinceSnapshot.size() +
+                " links changed since");
+    }
+
+    /**
+     * Returns the snapshot entry for the code, or null when there is no snapshot, the code is not
+     * in it, or its link changed after the snapshot was written.
+     */
+    public CachedRedirect lookup(String shortUrl) {
+        UrlSnapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+
+        UrlSnapshot.Entry entry = current.get(shortUrl);
+        if (entry == null) {
+            return null;
+        }
+        // Recorded before the check, so a catch-up marking the link right after still evicts the code
+        promotedCodes.computeIfAbsent(entry.urlId(), id -> ConcurrentHashMap.newKeySet()).add(shortUrl);
+        if (changedSinceSnapshot.contains(entry.urlId())) {
+            return null;
+        }
+        hits.increment();
+        return entry.redirect();
+    }
+
+    public boolean isServing() {
+        return snapshot != null;
+    }
+
+    /**
+     * Marks links updated since the last pass so none of their codes is served from the snapshot
+     * any more, and drops from the cache every code already promoted from a stale entry.
+     */
+    @Scheduled(fixedDelayString = "${listener.snapshot.catch-up-interval:PT5S}")
+    public synchronized void catchUp() {
+        if (snapshot == null) {
+            return;
+        }
+        if (Instant.now().isAfter(retireAt)) {
+            retire();
+            return;
+        }
+
+        OffsetDateTime startedAt = OffsetDateTime.now();
+        try {
+            markChangedSince(lastCatchUpAt.minus(snapshotPropertiesConfig.getCatchUpOverlap()));
+            lastCatchUpAt = startedAt;
+        } catch (RuntimeException e) {
+            CustomLogger.logError(UrlSnapshotStore.class, "Snapshot catch-up failed", e);
+        }
+    }
+
+    public synchronized void retire() {
+        snapshot = null;
+        changedSinceSnapshot.clear();
+        promotedCodes.clear();
+        CustomLogger.logInfo(UrlSnapshotStore.class, "Snapshot retired, lookups go through the database");
+    }
+
+    /**
+     * The current codes of a changed link are evicted as well as the promoted ones, since the
+     * promoted set only holds the codes looked up through the snapshot, and an alias renamed away
+     * is no longer among the current ones.
+     */
+    private void markChangedSince(OffsetDateTime since) {
+        for (ShortUrlKeyDto key : urlRedirectLookupRepository.findCodesOfUrlsUpdatedSince(since)) {
+            changedSinceSnapshot.add(key.id());
+            if (key.shortUrl() != null) {
+                urlResolutionCache.invalidate(key.shortUrl());
+            }
+            Set<String> promoted = promotedCodes.get(key.id());
+            if (promoted != null) {
+                promoted.forEach(urlResolutionCache::invalidate);
+            }
+        }
+    }
+
+    /**
+     * Writes a fresh snapshot of every live code. The file is replaced atomically, so a
+     * crash mid write leaves the previous snapshot in place.
+     */
+    @Scheduled(fixedDelayString = "${listener.snapshot.write-interval:PT15M}",
+            initialDelayString = "${listener.snapshot.write-interval:PT15M}")
+    public void write() {
+        if (!snapshotPropertiesConfig.isEnabled()) {
+            return;
+        }
+
+        synchronized (writeLock) {
+            long started = System.currentTimeMillis();
+            Path path = Path.of(snapshotPropertiesConfig.getPath());
+            try (UrlSnapshot.Writer writer = UrlSnapshot.writer(path)) {
+                String lastCode = "";
+                int batchSize = snapshotPropertiesConfig.getLoadBatchSize();
+
+                List<ShortUrlTargetDto> rows;
+                do {
+                    rows = urlRedirectLookupRepository.findLiveAfterCode(lastCode, batchSize);
+                    for (ShortUrlTargetDto row : rows) {
+                        writer.add(row.shortUrl(), row.id(),
+                                CachedRedirect.of(row.originalUrl(), row.validSince(), row.validUntil()));
+                        lastCode = row.shortUrl();
+                    }
+                } while (rows.size() == batchSize);
+
+                // Rows updated while scanning are picked up by the catch-up of the next start
+                writer.commit(started);
+
+                CustomLogger.logInfo(UrlSnapshotStore.class, "Wrote snapshot with " + writer.count() +
+                        " short codes in " + (System.currentTimeMillis() - started) + " ms");
+            } catch (IOException | RuntimeException e) {
+                CustomLogger.logError(UrlSnapshotStore.class, "Snapshot write failed, keeping previous file", e);
+            }
+        }
+    }
+}
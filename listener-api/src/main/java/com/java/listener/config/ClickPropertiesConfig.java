@@ -0,0 +1,42 @@
+package com.java.listener.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "listener.clicks")
+@Validated
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class ClickPropertiesConfig {
+
+    private Mode mode = Mode.QUEUE;
+    private int queueCapacity = 100_000;
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private BackpressurePolicy backpressure = BackpressurePolicy.DROP;
+    private Duration offerTimeout = Duration.ofMillis(5);
+
+    public enum Mode {
+        // Bounded queue drained by one background thread
+        QUEUE,
+        // Per code LongAdder cells drained on a schedule, for very hot links
+        STRIPED
+    }
+
+    public enum BackpressurePolicy {
+        // Discard the click immediately when the queue is full
+        DROP,
+        // Wait up to offer-timeout for space, then discard
+        BLOCK
+    }
+}
@@ -0,0 +1,32 @@
+package com.java.listener.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "listener.filter")
+@Validated
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class FilterPropertiesConfig {
+
+    private boolean enabled = true;
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveProbability = 0.01;
+    private int loadBatchSize = 10_000;
+    private Duration refreshInterval = Duration.ofSeconds(5);
+    private Duration refreshOverlap = Duration.ofMinutes(1);
+    private Duration missRefreshInterval = Duration.ofMillis(500);
+    private Duration rebuildInterval = Duration.ofHours(6);
+    private long negativeCacheMaximumSize = 50_000;
+    private Duration negativeCacheExpireAfterWrite = Duration.ofSeconds(30);
+}
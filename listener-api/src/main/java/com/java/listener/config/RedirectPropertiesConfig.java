@@ -0,0 +1,25 @@
+package com.java.listener.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "listener.redirect")
+@Validated
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class RedirectPropertiesConfig {
+
+    private boolean permanent = false;
+    private Duration cacheMaxAge = Duration.ofMinutes(5);
+    private boolean cachePublic = true;
+}
@@ -0,0 +1,30 @@
+package com.java.listener.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "listener.snapshot")
+@Validated
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class SnapshotPropertiesConfig {
+
+    private boolean enabled = true;
+    private String path = "data/listener-snapshot.bin";
+    private Duration writeInterval = Duration.ofMinutes(15);
+    private int loadBatchSize = 10_000;
+    private Duration catchUpInterval = Duration.ofSeconds(5);
+    private Duration catchUpOverlap = Duration.ofMinutes(1);
+    private Duration serveFor = Duration.ofMinutes(10);
+    private Duration maxAge = Duration.ofHours(1);
+}
@@ -0,0 +1,24 @@
+package com.java.listener.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Configuration
+@ConfigurationProperties(prefix = "listener.warmup")
+@Validated
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class WarmupPropertiesConfig {
+
+    private boolean enabled = true;
+    private int mostClicked = 5_000;
+    private int mostRecent = 5_000;
+    private int lookupIterations = 20_000;
+}
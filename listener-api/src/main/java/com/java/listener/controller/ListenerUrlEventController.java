@@ -14,11 +14,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class ListenerUrlEventController {
 
-    IListenerUrlEventService listenerUrlEventService;
+    private final IListenerUrlEventService listenerUrlEventService;
 
     @PostMapping("/event")
     public GetUrlEventResponseDto handleEvent(@RequestBody GetUrlEventRequestDto getUrlEventRequestDto) {
-        // Logic to handle the event
         return listenerUrlEventService.getUrlEventByShortUrl(getUrlEventRequestDto);
     }
 }
@@ -0,0 +1,48 @@
+package com.java.listener.controller;
+
+import com.java.listener.config.RedirectPropertiesConfig;
+import com.java.listener.usecase.IClickCounterService;
+import com.java.listener.usecase.IListenerUrlEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class RedirectController {
+
+    private final IListenerUrlEventService listenerUrlEventService;
+    private final IClickCounterService clickCounterService;
+    private final RedirectPropertiesConfig redirectPropertiesConfig;
+
+    @GetMapping("/{shortCode:[A-Za-z0-9_-]+}")
+    public ResponseEntity<Void> redirect(@PathVariable String shortCode) {
+
+        String originalUrl = listenerUrlEventService.resolveOriginalUrl(shortCode);
+
+        if (originalUrl == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+
+        clickCounterService.recordClick(shortCode);
+
+        HttpStatus status = redirectPropertiesConfig.isPermanent() ? HttpStatus.MOVED_PERMANENTLY : HttpStatus.FOUND;
+
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.LOCATION, originalUrl)
+                .cacheControl(cacheControl())
+                .build();
+    }
+
+    private CacheControl cacheControl() {
+        CacheControl cacheControl = CacheControl.maxAge(redirectPropertiesConfig.getCacheMaxAge());
+        return redirectPropertiesConfig.isCachePublic() ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+    }
+}
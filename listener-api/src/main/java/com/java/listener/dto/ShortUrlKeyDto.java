@@ -0,0 +1,7 @@
+package com.java.listener.dto;
+
+public record ShortUrlKeyDto(
+        Long id,
+        String shortUrl
+) {
+}
@@ -0,0 +1,12 @@
+package com.java.listener.dto;
+
+import java.time.OffsetDateTime;
+
+public record ShortUrlTargetDto(
+        Long id,
+        String shortUrl,
+        String originalUrl,
+        OffsetDateTime validSince,
+        OffsetDateTime validUntil
+) {
+}
@@ -0,0 +1,12 @@
+package com.java.listener.dto;
+
+import java.time.OffsetDateTime;
+
+public record UrlRedirectProjectionDto(
+        String originalUrl,
+        boolean active,
+        boolean deleted,
+        OffsetDateTime validSince,
+        OffsetDateTime validUntil
+) {
+}
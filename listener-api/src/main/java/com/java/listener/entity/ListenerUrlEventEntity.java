@@ -1,39 +0,0 @@
-package com.java.listener.entity;
-
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import lombok.ToString;
-
-import java.io.Serial;
-import java.io.Serializable;
-
-@Table(name = "url_table")
-@Entity
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-@ToString
-public class ListenerUrlEventEntity implements Serializable {
-
-    @Serial
-    private static final long serialVersionUID = 1335836076600605686L;
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-    @Column(name = "original_url", nullable = false)
-    private String originalUrl;
-    @Column(name = "short_url", unique = true)
-    private String shortUrl;
-    @Column(name = "custom_alias")
-    private String customAlias;
-}
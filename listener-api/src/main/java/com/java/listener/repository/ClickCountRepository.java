@@ -0,0 +1,32 @@
+package com.java.listener.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class ClickCountRepository {
+
+    // Resolved through url_code so clicks on a custom alias count for the link it points to
+    private static final String INCREMENT_CLICK_COUNT =
+            "UPDATE url_table u SET click_count = u.click_count + ? FROM url_code c WHERE c.code = ? AND u.id = c.url_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Applies the per code deltas as one JDBC batch. Codes are sorted so concurrent flushes
+     * from several listener instances lock rows in the same order and cannot deadlock.
+     */
+    public int[] incrementClickCounts(Map<String, Long> deltas) {
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        new TreeMap<>(deltas).forEach((shortUrl, delta) -> batchArgs.add(new Object[]{delta, shortUrl}));
+
+        return jdbcTemplate.batchUpdate(INCREMENT_CLICK_COUNT, batchArgs);
+    }
+}
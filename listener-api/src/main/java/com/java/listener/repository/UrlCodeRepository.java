@@ -0,0 +1,34 @@
+package com.java.listener.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Reads the url_code index, which holds every resolvable code (generated short codes, custom
+ * aliases and legacy codes) in a single unique namespace.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UrlCodeRepository {
+
+    private static final String FIND_CODES_AFTER =
+            "SELECT code FROM url_code WHERE code > ? ORDER BY code LIMIT ?";
+
+    private static final String FIND_CODES_CREATED_SINCE =
+            "SELECT code FROM url_code WHERE created_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Keyset page in primary key order
+    public List<String> findCodesAfter(String lastCode, int limit) {
+        return jdbcTemplate.queryForList(FIND_CODES_AFTER, String.class, lastCode, limit);
+    }
+
+    public List<String> findCodesCreatedSince(OffsetDateTime since) {
+        return jdbcTemplate.queryForList(FIND_CODES_CREATED_SINCE, String.class, since);
+    }
+}
@@ -0,0 +1,90 @@
+package com.java.listener.repository;
+
+import com.java.listener.dto.ShortUrlKeyDto;
+import com.java.listener.dto.ShortUrlTargetDto;
+import com.java.listener.dto.UrlRedirectProjectionDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read only lookup used on the redirect path. Selects only the columns a redirect needs through
+ * a prepared statement and maps them straight into a record, so no entity is instantiated, no
+ * persistence context is involved and nothing is snapshotted for dirty checking. Codes are
+ * resolved through url_code, so a generated short code and a custom alias take the same single
+ * primary key probe.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UrlRedirectLookupRepository {
+
+    private static final String FIND_BY_CODE =
+            "SELECT u.original_url, u.is_active, u.is_deleted, u.valid_since, u.valid_until " +
+            "FROM url_code c JOIN url_table u ON u.id = c.url_id WHERE c.code = ?";
+
+    private static final String SELECT_TARGET =
+            "SELECT u.id, c.code, u.original_url, u.valid_since, u.valid_until " +
+            "FROM url_code c JOIN url_table u ON u.id = c.url_id ";
+
+    // Active links whose window is open or still ahead; the window itself is checked in memory
+    private static final String LIVE =
+            "u.is_active AND NOT u.is_deleted AND (u.valid_until IS NULL OR u.valid_until > now()) ";
+
+    private static final String FIND_LIVE_AFTER_CODE =
+            SELECT_TARGET + "WHERE c.code > ? AND " + LIVE + "ORDER BY c.code LIMIT ?";
+
+    private static final String FIND_MOST_CLICKED =
+            SELECT_TARGET + "WHERE " + LIVE + "ORDER BY u.click_count DESC LIMIT ?";
+
+    private static final String FIND_MOST_RECENT =
+            SELECT_TARGET + "WHERE " + LIVE + "ORDER BY u.created_at DESC LIMIT ?";
+
+    private static final String FIND_CODES_OF_URLS_UPDATED_SINCE =
+            "SELECT u.id, c.code FROM url_table u LEFT JOIN url_code c ON c.url_id = u.id WHERE u.updated_at >= ?";
+
+    private static final RowMapper<UrlRedirectProjectionDto> ROW_MAPPER = (rs, rowNum) -> new UrlRedirectProjectionDto(
+            rs.getString("original_url"),
+            rs.getBoolean("is_active"),
+            rs.getBoolean("is_deleted"),
+            rs.getObject("valid_since", OffsetDateTime.class),
+            rs.getObject("valid_until", OffsetDateTime.class));
+
+    private static final RowMapper<ShortUrlTargetDto> TARGET_ROW_MAPPER = (rs, rowNum) -> new ShortUrlTargetDto(
+            rs.getLong("id"),
+            rs.getString("code"),
+            rs.getString("original_url"),
+            rs.getObject("valid_since", OffsetDateTime.class),
+            rs.getObject("valid_until", OffsetDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<UrlRedirectProjectionDto> findByCode(String code) {
+        List<UrlRedirectProjectionDto> rows = jdbcTemplate.query(FIND_BY_CODE, ROW_MAPPER, code);
+        return rows.stream().findFirst();
+    }
+
+    // Keyset page over the codes of live links, in code order
+    public List<ShortUrlTargetDto> findLiveAfterCode(String lastCode, int limit) {
+        return jdbcTemplate.query(FIND_LIVE_AFTER_CODE, TARGET_ROW_MAPPER, lastCode, limit);
+    }
+
+    public List<ShortUrlTargetDto> findMostClicked(int limit) {
+        return jdbcTemplate.query(FIND_MOST_CLICKED, TARGET_ROW_MAPPER, limit);
+    }
+
+    public List<ShortUrlTargetDto> findMostRecent(int limit) {
+        return jdbcTemplate.query(FIND_MOST_RECENT, TARGET_ROW_MAPPER, limit);
+    }
+
+    // Every link updated since the given time with its current codes; code is null for links without one
+    public List<ShortUrlKeyDto> findCodesOfUrlsUpdatedSince(OffsetDateTime since) {
+        return jdbcTemplate.query(FIND_CODES_OF_URLS_UPDATED_SINCE,
+                (rs, rowNum) -> new ShortUrlKeyDto(rs.getLong("id"), rs.getString("code")),
+                since);
+    }
+}
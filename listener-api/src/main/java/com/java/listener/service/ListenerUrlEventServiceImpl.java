@@ -1,9 +1,12 @@
 package com.java.listener.service;
 
+import com.java.listener.cache.CachedRedirect;
+import com.java.listener.cache.ShortUrlMembershipIndex;
+import com.java.listener.cache.UrlResolutionCache;
+import com.java.listener.cache.UrlSnapshotStore;
 import com.java.listener.dto.request.GetUrlEventRequestDto;
 import com.java.listener.dto.response.GetUrlEventResponseDto;
-import com.java.listener.entity.ListenerUrlEventEntity;
-import com.java.listener.repository.ListenerUrlEventRepository;
+import com.java.listener.repository.UrlRedirectLookupRepository;
 import com.java.listener.usecase.IListenerUrlEventService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -12,18 +15,51 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ListenerUrlEventServiceImpl implements IListenerUrlEventService {
 
-
-    ListenerUrlEventRepository listenerUrlEventRepository;
+    private final UrlRedirectLookupRepository urlRedirectLookupRepository;
+    private final UrlResolutionCache urlResolutionCache;
+    private final ShortUrlMembershipIndex shortUrlMembershipIndex;
+    private final UrlSnapshotStore urlSnapshotStore;
 
     @Override
     public GetUrlEventResponseDto getUrlEventByShortUrl(GetUrlEventRequestDto getUrlEventRequestDto) {
 
-        ListenerUrlEventEntity fullUrl = listenerUrlEventRepository.findListenerUrlEventEntityByShortUrl(getUrlEventRequestDto.shortUrl()).orElse(null);
+        String fullUrl = resolveOriginalUrl(getUrlEventRequestDto.shortUrl());
 
         if (fullUrl == null) {
             return new GetUrlEventResponseDto(false,"URL not found");
         }
 
-        return new GetUrlEventResponseDto(true, fullUrl.getOriginalUrl());
+        return new GetUrlEventResponseDto(true, fullUrl);
+    }
+
+    @Override
+    public String resolveOriginalUrl(String shortUrl) {
+        // Definite misses are answered without going to the database
+        if (shortUrl == null
+                || !shortUrlMembershipIndex.mightContain(shortUrl)
+                || urlResolutionCache.isKnownMissing(shortUrl)) {
+            return null;
+        }
+
+        CachedRedirect redirect = urlResolutionCache.get(shortUrl, this::loadRedirect);
+        if (redirect == null) {
+            urlResolutionCache.markMissing(shortUrl);
+            return null;
+        }
+
+        // Windows opening or closing take effect here without going back to the database
+        return redirect.isRedirectableAt(System.currentTimeMillis()) ? redirect.originalUrl() : null;
+    }
+
+    private CachedRedirect loadRedirect(String shortUrl) {
+        // Right after startup misses are served from the snapshot and promoted into the cache
+        CachedRedirect fromSnapshot = urlSnapshotStore.lookup(shortUrl);
+        if (fromSnapshot != null) {
+            return fromSnapshot;
+        }
+
+        return urlRedirectLookupRepository.findByCode(shortUrl)
+                .map(url -> CachedRedirect.of(url.originalUrl(), url.active(), url.deleted(), url.validSince(), url.validUntil()))
+                .orElse(null);
     }
 }
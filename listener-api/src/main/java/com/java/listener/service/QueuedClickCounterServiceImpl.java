@@ -0,0 +1,208 @@
+package com.java.listener.service;
+
+import com.java.listener.config.ClickPropertiesConfig;
+import com.java.listener.config.CustomLogger;
+import com.java.listener.repository.ClickCountRepository;
+import com.java.listener.usecase.IClickCounterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts redirects without touching url_table on the request thread. Clicks go onto a bounded
+ * queue, a single background thread folds them into one delta per short code and writes the
+ * deltas as a JDBC batch once enough clicks are pending or the flush interval has passed.
+ * Clicks that do not fit in the queue are dropped and counted, never allowed to slow a redirect.
+ */
+@Service
+@ConditionalOnProperty(prefix = "listener.clicks", name = "mode", havingValue = "queue", matchIfMissing = true)
+public class QueuedClickCounterServiceImpl implements IClickCounterService, SmartLifecycle {
+
+    // Starts before and stops after the web server so no accepted redirect loses its click
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final ClickCountRepository clickCountRepository;
+    private final ClickPropertiesConfig clickPropertiesConfig;
+    private final BlockingQueue<String> queue;
+    private final Map<String, Long> pending = new HashMap<>();
+
+    private final Counter enqueued;
+    private final Counter dropped;
+    private final Counter flushed;
+    private final Counter flushFailures;
+    private final Timer flushTimer;
+
+    private long pendingClicks;
+    private volatile boolean running;
+    private Thread worker;
+
+    public QueuedClickCounterServiceImpl(ClickCountRepository clickCountRepository,
+                                         ClickPropertiesConfig clickPropertiesConfig,
+                                         MeterRegistry meterRegistry) {
+        this.clickCountRepository = clickCountRepository;
+        this.clickPropertiesConfig = clickPropertiesConfig;
+        this.queue = new ArrayBlockingQueue<>(clickPropertiesConfig.getQueueCapacity());
+
+        Gauge.builder("listener.clicks.queue.size", queue, BlockingQueue::size)
+                .description("Clicks waiting to be aggregated")
+                .register(meterRegistry);
+        Gauge.builder("listener.clicks.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("Free slots left in the click queue")
+                .register(meterRegistry);
+        this.enqueued = Counter.builder("listener.clicks.enqueued")
+                .description("Clicks accepted into the queue")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("listener.clicks.dropped")
+                .description("Clicks discarded because the queue was full")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("listener.clicks.flushed")
+                .description("Clicks written to url_table")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("listener.clicks.flush.failures")
+                .description("Batches that failed and were kept for the next flush")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("listener.clicks.flush")
+                .description("Time spent writing one batch of click deltas")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordClick(String shortUrl) {
+        if (shortUrl == null) {
+            return;
+        }
+
+        if (offer(shortUrl)) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Moves everything queued so far into the pending deltas and writes them. Called by the
+     * background thread on every trigger and once more on shutdown.
+     */
+    @Override
+    public synchronized void flushPending() {
+        drainQueue();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> batch = new HashMap<>(pending);
+        long clicks = pendingClicks;
+        try {
+            flushTimer.record(() -> clickCountRepository.incrementClickCounts(batch));
+            pending.clear();
+            pendingClicks = 0;
+            flushed.increment(clicks);
+        } catch (RuntimeException e) {
+            // Deltas stay pending and are merged with the next clicks for the same codes
+            flushFailures.increment();
+            CustomLogger.logError(QueuedClickCounterServiceImpl.class,
+                    "Click count flush failed for " + batch.size() + " short codes, retrying on next flush", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("click-counter-flusher")
+                .daemon()
+                .start(this::runWorker);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(clickPropertiesConfig.getFlushInterval().toMillis() * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushPending();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private boolean offer(String shortUrl) {
+        if (clickPropertiesConfig.getBackpressure() == ClickPropertiesConfig.BackpressurePolicy.DROP) {
+            return queue.offer(shortUrl);
+        }
+
+        try {
+            return queue.offer(shortUrl, clickPropertiesConfig.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runWorker() {
+        long flushIntervalNanos = clickPropertiesConfig.getFlushInterval().toNanos();
+        long nextFlushAt = System.nanoTime() + flushIntervalNanos;
+
+        while (running) {
+            try {
+                String shortUrl = queue.poll(Math.max(0, nextFlushAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (shortUrl != null) {
+                    aggregate(shortUrl);
+                }
+
+                if (pendingSize() >= clickPropertiesConfig.getBatchSize() || System.nanoTime() - nextFlushAt >= 0) {
+                    flushPending();
+                    nextFlushAt = System.nanoTime() + flushIntervalNanos;
+                }
+            } catch (InterruptedException e) {
+                // Interrupted by stop(), the final flush happens there
+                return;
+            } catch (RuntimeException e) {
+                CustomLogger.logError(QueuedClickCounterServiceImpl.class, "Click counter worker error", e);
+            }
+        }
+    }
+
+    private synchronized long pendingSize() {
+        drainQueue();
+        return pendingClicks;
+    }
+
+    private synchronized void aggregate(String shortUrl) {
+        pending.merge(shortUrl, 1L, Long::sum);
+        pendingClicks++;
+    }
+
+    private synchronized void drainQueue() {
+        List<String> drained = new ArrayList<>();
+        queue.drainTo(drained);
+        for (String shortUrl : drained) {
+            aggregate(shortUrl);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.java.listener.service;
+
+import com.java.listener.config.CustomLogger;
+import com.java.listener.repository.ClickCountRepository;
+import com.java.listener.usecase.IClickCounterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts redirects in one LongAdder per short code. Once a code has a cell, recording a click is
+ * a lock free map read plus an increment on a per thread stripe, so hot links do not contend on a
+ * shared queue. A scheduled flush takes the deltas with sumThenReset and writes them as one batch.
+ */
+@Service
+@ConditionalOnProperty(prefix = "listener.clicks", name = "mode", havingValue = "striped")
+public class StripedClickCounterServiceImpl implements IClickCounterService, SmartLifecycle {
+
+    // Starts before and stops after the web server so no accepted redirect loses its click
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final ClickCountRepository clickCountRepository;
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    // Cells removed on the previous flush, drained once more to catch increments that raced the removal
+    private Map<String, LongAdder> retired = new HashMap<>();
+
+    private final Counter flushed;
+    private final Counter flushFailures;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+
+    public StripedClickCounterServiceImpl(ClickCountRepository clickCountRepository, MeterRegistry meterRegistry) {
+        this.clickCountRepository = clickCountRepository;
+
+        Gauge.builder("listener.clicks.counters", counters, Map::size)
+                .description("Short codes with a live click counter cell")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("listener.clicks.flushed")
+                .description("Clicks written to url_table")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("listener.clicks.flush.failures")
+                .description("Batches that failed and were kept for the next flush")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("listener.clicks.flush")
+                .description("Time spent writing one batch of click deltas")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordClick(String shortUrl) {
+        if (shortUrl == null) {
+            return;
+        }
+        cell(shortUrl).increment();
+    }
+
+    /**
+     * Drains every cell and writes the non zero deltas. Cells that stayed at zero since the last
+     * flush are removed so codes that stop receiving traffic do not keep memory forever.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${listener.clicks.flush-interval:PT1S}")
+    public synchronized void flushPending() {
+        Map<String, Long> batch = new HashMap<>();
+        Map<String, LongAdder> idle = new HashMap<>();
+
+        retired.forEach((shortUrl, cell) -> {
+            long delta = cell.sumThenReset();
+            if (delta > 0) {
+                batch.merge(shortUrl, delta, Long::sum);
+            }
+        });
+
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                batch.merge(entry.getKey(), delta, Long::sum);
+            } else if (counters.remove(entry.getKey(), entry.getValue())) {
+                idle.put(entry.getKey(), entry.getValue());
+            }
+        }
+        retired = idle;
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long clicks = batch.values().stream().mapToLong(Long::longValue).sum();
+        try {
+            flushTimer.record(() -> clickCountRepository.incrementClickCounts(batch));
+            flushed.increment(clicks);
+        } catch (RuntimeException e) {
+            // Put the deltas back so the next flush retries them together with new clicks
+            batch.forEach((shortUrl, delta) -> cell(shortUrl).add(delta));
+            flushFailures.increment();
+            CustomLogger.logError(StripedClickCounterServiceImpl.class,
+                    "Click count flush failed for " + batch.size() + " short codes, retrying on next flush", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flushPending();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private LongAdder cell(String shortUrl) {
+        // Plain get first: computeIfAbsent may lock the bin even when the key is present
+        LongAdder cell = counters.get(shortUrl);
+        return cell != null ? cell : counters.computeIfAbsent(shortUrl, key -> new LongAdder());
+    }
+}
@@ -0,0 +1,7 @@
+package com.java.listener.usecase;
+
+public interface IClickCounterService {
+
+    void recordClick(String shortUrl);
+    void flushPending();
+}
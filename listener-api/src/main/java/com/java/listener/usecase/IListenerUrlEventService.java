@@ -6,4 +6,5 @@ import com.java.listener.dto.response.GetUrlEventResponseDto;
 public interface IListenerUrlEventService {
 
     GetUrlEventResponseDto getUrlEventByShortUrl(GetUrlEventRequestDto getUrlEventRequestDto);
+    String resolveOriginalUrl(String shortUrl);
 }
@@ -0,0 +1,43 @@
+package com.java.listener.benchmark;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.OffsetDateTime;
+
+/**
+ * The url_table mapping the listener resolved redirects through before the JDBC projection.
+ * Only RedirectLookupBenchmarkTest uses it, as the entity side of the comparison.
+ */
+@Table(name = "url_table")
+@Entity
+public class BenchmarkUrlEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "original_url", nullable = false)
+    private String originalUrl;
+    @Column(name = "short_url", unique = true)
+    private String shortUrl;
+    @Column(name = "custom_alias")
+    private String customAlias;
+    @Column(name = "is_active", nullable = false)
+    private boolean active;
+    @Column(name = "is_deleted", nullable = false)
+    private boolean deleted;
+    @Column(name = "valid_since", nullable = false)
+    private OffsetDateTime validSince;
+    @Column(name = "valid_until")
+    private OffsetDateTime validUntil;
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    public String getOriginalUrl() {
+        return originalUrl;
+    }
+}
@@ -0,0 +1,12 @@
+package com.java.listener.benchmark;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BenchmarkUrlRepository extends JpaRepository<BenchmarkUrlEntity, Long> {
+
+    Optional<BenchmarkUrlEntity> findByShortUrl(String shortUrl);
+}
@@ -0,0 +1,128 @@
+package com.java.listener.benchmark;
+
+import com.java.listener.config.CustomLogger;
+import com.java.listener.repository.UrlRedirectLookupRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the redirect lookup through a managed entity, BenchmarkUrlEntity, with the JDBC
+ * projection over url_code. Each lookup runs outside a test transaction so both paths pay for their own
+ * persistence context, as they do on a cache miss in production. Run with ./gradlew benchmark; needs Docker.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UrlRedirectLookupRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class RedirectLookupBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+    private static final int WARMUP_LOOKUPS = 20_000;
+    private static final int MEASURED_LOOKUPS = 50_000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BenchmarkUrlRepository benchmarkUrlRepository;
+
+    @Autowired
+    private UrlRedirectLookupRepository urlRedirectLookupRepository;
+
+    @Test
+    void compareEntityAndProjectionLookups() {
+        List<String> codes = createUrls();
+
+        Function<String, String> entityLookup = code -> benchmarkUrlRepository.findByShortUrl(code)
+                .map(BenchmarkUrlEntity::getOriginalUrl)
+                .orElse(null);
+        Function<String, String> projectionLookup = code -> urlRedirectLookupRepository.findByCode(code)
+                .map(url -> url.originalUrl())
+                .orElse(null);
+
+        assertEquals(entityLookup.apply(codes.get(0)), projectionLookup.apply(codes.get(0)));
+
+        run(codes, entityLookup, WARMUP_LOOKUPS);
+        run(codes, projectionLookup, WARMUP_LOOKUPS);
+
+        long entityNanos = run(codes, entityLookup, MEASURED_LOOKUPS);
+        long projectionNanos = run(codes, projectionLookup, MEASURED_LOOKUPS);
+
+        CustomLogger.logInfo(RedirectLookupBenchmarkTest.class, String.format(
+                "Redirect lookup over %d calls: entity %.1f us/op, projection %.1f us/op",
+                MEASURED_LOOKUPS, entityNanos / 1_000.0 / MEASURED_LOOKUPS, projectionNanos / 1_000.0 / MEASURED_LOOKUPS));
+    }
+
+    private static long run(List<String> codes, Function<String, String> lookup, int lookups) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long started = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            lookup.apply(codes.get(random.nextInt(codes.size())));
+        }
+        return System.nanoTime() - started;
+    }
+
+    private List<String> createUrls() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS url_table (
+                    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    original_url VARCHAR(255)             NOT NULL,
+                    short_url    VARCHAR(255) UNIQUE,
+                    custom_alias VARCHAR(255),
+                    description  VARCHAR(255),
+                    user_id      BIGINT                   NOT NULL,
+                    click_count  BIGINT                   NOT NULL,
+                    is_active    BOOLEAN                  NOT NULL,
+                    valid_since  TIMESTAMP WITH TIME ZONE NOT NULL,
+                    valid_until  TIMESTAMP WITH TIME ZONE,
+                    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+                    updated_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+                    is_deleted   BOOLEAN                  NOT NULL
+                )""");
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS url_code (
+                    code       VARCHAR(255) PRIMARY KEY,
+                    url_id     BIGINT                                 NOT NULL,
+                    kind       VARCHAR(16)                            NOT NULL,
+                    created_at TIMESTAMP WITH TIME ZONE DEFAULT now() NOT NULL
+                )""");
+
+        List<String> codes = new ArrayList<>(ROWS);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            String code = "bench" + i;
+            codes.add(code);
+            rows.add(new Object[]{"https://www.example.com/articles/" + i, code});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO url_table (original_url, short_url, user_id, click_count, is_active, valid_since,
+                                       created_at, updated_at, is_deleted)
+                VALUES (?, ?, 1, 0, TRUE, now(), now(), now(), FALSE)""", rows);
+        jdbcTemplate.update("INSERT INTO url_code (code, url_id, kind) SELECT short_url, id, 'SHORT' FROM url_table");
+        return codes;
+    }
+}
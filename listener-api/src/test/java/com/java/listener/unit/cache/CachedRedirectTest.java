@@ -0,0 +1,47 @@
+package com.java.listener.unit.cache;
+
+import com.java.listener.cache.CachedRedirect;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachedRedirectTest {
+
+    private static final String ORIGINAL_URL = "https://www.example.com";
+    private static final long FROM = 1_700_000_000_000L;
+    private static final long UNTIL = FROM + 60_000L;
+
+    @Test
+    void isRedirectableAt_shouldRespectHalfOpenWindow() {
+        CachedRedirect redirect = CachedRedirect.of(ORIGINAL_URL, at(FROM), at(UNTIL));
+
+        assertFalse(redirect.isRedirectableAt(FROM - 1));
+        assertTrue(redirect.isRedirectableAt(FROM));
+        assertTrue(redirect.isRedirectableAt(UNTIL - 1));
+        assertFalse(redirect.isRedirectableAt(UNTIL));
+    }
+
+    @Test
+    void isRedirectableAt_shouldStayOpen_whenValidUntilIsNull() {
+        CachedRedirect redirect = CachedRedirect.of(ORIGINAL_URL, at(FROM), null);
+
+        assertFalse(redirect.isRedirectableAt(FROM - 1));
+        assertTrue(redirect.isRedirectableAt(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    void isRedirectableAt_shouldNeverMatch_whenLinkIsInactiveOrDeleted() {
+        assertFalse(CachedRedirect.of(ORIGINAL_URL, false, false, at(FROM), null).isRedirectableAt(UNTIL));
+        assertFalse(CachedRedirect.of(ORIGINAL_URL, true, true, at(FROM), null).isRedirectableAt(UNTIL));
+        assertFalse(CachedRedirect.of(ORIGINAL_URL, at(UNTIL), at(FROM)).isRedirectableAt(UNTIL));
+    }
+
+    private static OffsetDateTime at(long epochMillis) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+}
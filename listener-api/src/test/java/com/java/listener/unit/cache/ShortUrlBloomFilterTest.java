@@ -0,0 +1,46 @@
+package com.java.listener.unit.cache;
+
+import com.java.listener.cache.ShortUrlBloomFilter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShortUrlBloomFilterTest {
+
+    @Test
+    void mightContain_shouldReturnTrue_forEveryInsertedCode() {
+        ShortUrlBloomFilter filter = new ShortUrlBloomFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("code" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("code" + i));
+        }
+    }
+
+    @Test
+    void mightContain_shouldStayNearConfiguredFalsePositiveRate() {
+        ShortUrlBloomFilter filter = new ShortUrlBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("code" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("missing" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 300, "False positives: " + falsePositives);
+    }
+
+    @Test
+    void mightContain_shouldReturnFalse_whenFilterIsEmpty() {
+        ShortUrlBloomFilter filter = new ShortUrlBloomFilter(100, 0.01);
+
+        assertFalse(filter.mightContain("aB3xY9z"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.java.listener.unit.cache;
+
+import com.java.listener.cache.CachedRedirect;
+import com.java.listener.cache.UrlCacheWarmer;
+import com.java.listener.cache.UrlResolutionCache;
+import com.java.listener.config.CachePropertiesConfig;
+import com.java.listener.config.FilterPropertiesConfig;
+import com.java.listener.config.WarmupPropertiesConfig;
+import com.java.listener.dto.ShortUrlTargetDto;
+import com.java.listener.repository.UrlRedirectLookupRepository;
+import com.java.listener.usecase.IListenerUrlEventService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UrlCacheWarmerTest {
+
+    @Mock
+    private UrlRedirectLookupRepository urlRedirectLookupRepository;
+
+    @Mock
+    private IListenerUrlEventService listenerUrlEventService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UrlResolutionCache urlResolutionCache;
+    private UrlCacheWarmer urlCacheWarmer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        urlResolutionCache = new UrlResolutionCache(
+                new CachePropertiesConfig(100, Duration.ofMinutes(1)), new FilterPropertiesConfig(), meterRegistry);
+        urlCacheWarmer = new UrlCacheWarmer(new WarmupPropertiesConfig(true, 10, 10, 6),
+                urlRedirectLookupRepository, urlResolutionCache, listenerUrlEventService, meterRegistry);
+    }
+
+    @Test
+    void run_shouldPreloadMostClickedAndMostRecentLinks() {
+        when(urlRedirectLookupRepository.findMostClicked(10)).thenReturn(List.of(
+                target(1L, "hot")));
+        when(urlRedirectLookupRepository.findMostRecent(10)).thenReturn(List.of(
+                target(2L, "new"),
+                target(1L, "hot")));
+
+        urlCacheWarmer.run(new DefaultApplicationArguments());
+
+        assertEquals(2, urlResolutionCache.estimatedSize());
+        verify(listenerUrlEventService, times(3)).resolveOriginalUrl("hot");
+        verify(listenerUrlEventService, times(3)).resolveOriginalUrl("new");
+        assertEquals(1, meterRegistry.timer("listener.warmup.duration").count());
+    }
+
+    @Test
+    void run_shouldCacheValidityWindow_whenLinkIsNotYetValid() {
+        OffsetDateTime opensAt = OffsetDateTime.now().plusHours(1);
+        when(urlRedirectLookupRepository.findMostClicked(10)).thenReturn(List.of(
+                new ShortUrlTargetDto(1L, "soon", "https://www.example.com/soon", opensAt, null)));
+        when(urlRedirectLookupRepository.findMostRecent(10)).thenReturn(List.of());
+
+        urlCacheWarmer.run(new DefaultApplicationArguments());
+
+        CachedRedirect cached = urlResolutionCache.get("soon", code -> null);
+        assertFalse(cached.isRedirectableAt(System.currentTimeMillis()));
+        assertTrue(cached.isRedirectableAt(opensAt.toInstant().toEpochMilli()));
+    }
+
+    @Test
+    void run_shouldContinueStartup_whenDatabaseIsUnavailable() {
+        when(urlRedirectLookupRepository.findMostClicked(10)).thenThrow(new RuntimeException("connection refused"));
+
+        urlCacheWarmer.run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(listenerUrlEventService);
+        assertEquals(1, meterRegistry.timer("listener.warmup.duration").count());
+    }
+
+    private static ShortUrlTargetDto target(long id, String shortUrl) {
+        return new ShortUrlTargetDto(id, shortUrl, "https://www.example.com/" + shortUrl, OffsetDateTime.now().minusDays(1), null);
+    }
+}
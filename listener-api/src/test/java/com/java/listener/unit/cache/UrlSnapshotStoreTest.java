@@ -0,0 +1,115 @@
+package com.java.listener.unit.cache;
+
+import com.java.listener.cache.CachedRedirect;
+import com.java.listener.cache.UrlResolutionCache;
+import com.java.listener.cache.UrlSnapshot;
+import com.java.listener.cache.UrlSnapshotStore;
+import com.java.listener.config.CachePropertiesConfig;
+import com.java.listener.config.FilterPropertiesConfig;
+import com.java.listener.config.SnapshotPropertiesConfig;
+import com.java.listener.dto.ShortUrlKeyDto;
+import com.java.listener.repository.UrlRedirectLookupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UrlSnapshotStoreTest {
+
+    private static final CachedRedirect REDIRECT = new CachedRedirect("https://www.example.com", 0, Long.MAX_VALUE);
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private UrlRedirectLookupRepository urlRedirectLookupRepository;
+
+    private SnapshotPropertiesConfig snapshotPropertiesConfig;
+    private UrlResolutionCache urlResolutionCache;
+    private UrlSnapshotStore urlSnapshotStore;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        snapshotPropertiesConfig = new SnapshotPropertiesConfig();
+        snapshotPropertiesConfig.setPath(directory.resolve("snapshot.bin").toString());
+        urlResolutionCache = new UrlResolutionCache(
+                new CachePropertiesConfig(100, Duration.ofMinutes(1)),
+                new FilterPropertiesConfig(),
+                meterRegistry);
+        urlSnapshotStore = new UrlSnapshotStore(
+                snapshotPropertiesConfig, urlRedirectLookupRepository, urlResolutionCache, meterRegistry);
+    }
+
+    @Test
+    void load_shouldNotServeLinksChangedSinceSnapshot_beforeFirstScheduledCatchUp() throws IOException {
+        write(System.currentTimeMillis());
+        when(urlRedirectLookupRepository.findCodesOfUrlsUpdatedSince(any()))
+                .thenReturn(List.of(new ShortUrlKeyDto(1L, "short1")));
+
+        urlSnapshotStore.load();
+
+        assertTrue(urlSnapshotStore.isServing());
+        assertNull(urlSnapshotStore.lookup("alias1"));
+        assertEquals(REDIRECT, urlSnapshotStore.lookup("short2"));
+    }
+
+    @Test
+    void load_shouldNotServeSnapshot_whenOlderThanMaxAge() throws IOException {
+        write(System.currentTimeMillis() - snapshotPropertiesConfig.getMaxAge().plusMinutes(1).toMillis());
+
+        urlSnapshotStore.load();
+
+        assertFalse(urlSnapshotStore.isServing());
+        assertNull(urlSnapshotStore.lookup("short2"));
+        verifyNoInteractions(urlRedirectLookupRepository);
+    }
+
+    @Test
+    void load_shouldNotServeSnapshot_whenInitialCatchUpFails() throws IOException {
+        write(System.currentTimeMillis());
+        when(urlRedirectLookupRepository.findCodesOfUrlsUpdatedSince(any()))
+                .thenThrow(new IllegalStateException("database down"));
+
+        urlSnapshotStore.load();
+
+        assertFalse(urlSnapshotStore.isServing());
+    }
+
+    @Test
+    void catchUp_shouldEvictPromotedAlias_whenItWasRenamedAway() throws IOException {
+        write(System.currentTimeMillis());
+        when(urlRedirectLookupRepository.findCodesOfUrlsUpdatedSince(any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new ShortUrlKeyDto(1L, "short1"), new ShortUrlKeyDto(1L, "renamed1")));
+        urlSnapshotStore.load();
+        urlResolutionCache.get("alias1", urlSnapshotStore::lookup);
+
+        urlSnapshotStore.catchUp();
+
+        assertNull(urlResolutionCache.get("alias1", code -> null));
+        assertNull(urlSnapshotStore.lookup("alias1"));
+    }
+
+    private void write(long createdAtMillis) throws IOException {
+        try (UrlSnapshot.Writer writer = UrlSnapshot.writer(Path.of(snapshotPropertiesConfig.getPath()))) {
+            writer.add("alias1", 1L, REDIRECT);
+            writer.add("short1", 1L, REDIRECT);
+            writer.add("short2", 2L, REDIRECT);
+            writer.commit(createdAtMillis);
+        }
+    }
+}
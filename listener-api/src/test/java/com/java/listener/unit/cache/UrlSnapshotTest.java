@@ -0,0 +1,74 @@
+package com.java.listener.unit.cache;
+
+import com.java.listener.cache.CachedRedirect;
+import com.java.listener.cache.UrlSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UrlSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_shouldResolveEveryWrittenCode() throws IOException {
+        Path path = directory.resolve("snapshot.bin");
+        try (UrlSnapshot.Writer writer = UrlSnapshot.writer(path)) {
+            for (int i = 0; i < 5_000; i++) {
+                writer.add("code" + i, i, new CachedRedirect("https://www.example.com/" + i, i, Long.MAX_VALUE));
+            }
+            writer.commit(1_700_000_000_000L);
+        }
+
+        UrlSnapshot snapshot = UrlSnapshot.open(path);
+
+        assertEquals(5_000, snapshot.size());
+        assertEquals(1_700_000_000_000L, snapshot.createdAtMillis());
+        assertEquals(new UrlSnapshot.Entry(0, new CachedRedirect("https://www.example.com/0", 0, Long.MAX_VALUE)), snapshot.get("code0"));
+        assertEquals(new UrlSnapshot.Entry(4999, new CachedRedirect("https://www.example.com/4999", 4999, Long.MAX_VALUE)), snapshot.get("code4999"));
+        assertNull(snapshot.get("code5000"));
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void open_shouldRejectFile_whenDataIsCorrupted() throws IOException {
+        Path path = write();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), channel.size() - 1);
+        }
+
+        IOException exception = assertThrows(IOException.class, () -> UrlSnapshot.open(path));
+        assertEquals("Snapshot checksum mismatch", exception.getMessage());
+    }
+
+    @Test
+    void open_shouldRejectFile_whenFormatVersionDiffers() throws IOException {
+        Path path = write();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, UrlSnapshot.FORMAT_VERSION + 1), 4);
+        }
+
+        IOException exception = assertThrows(IOException.class, () -> UrlSnapshot.open(path));
+        assertTrue(exception.getMessage().startsWith("Unsupported snapshot version"));
+    }
+
+    private Path write() throws IOException {
+        Path path = directory.resolve("snapshot.bin");
+        try (UrlSnapshot.Writer writer = UrlSnapshot.writer(path)) {
+            writer.add("abc", 1L, new CachedRedirect("https://www.example.com", 0, Long.MAX_VALUE));
+            writer.commit(System.currentTimeMillis());
+        }
+        return path;
+    }
+}
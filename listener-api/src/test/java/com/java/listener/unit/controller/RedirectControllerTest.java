@@ -0,0 +1,83 @@
+package com.java.listener.unit.controller;
+
+import com.java.listener.config.RedirectPropertiesConfig;
+import com.java.listener.controller.RedirectController;
+import com.java.listener.usecase.IClickCounterService;
+import com.java.listener.usecase.IListenerUrlEventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class RedirectControllerTest {
+
+    private static final String SHORT_URL = "aB3xY9z";
+    private static final String ORIGINAL_URL = "https://www.example.com/landing?utm_source=test";
+
+    @Mock
+    private IListenerUrlEventService listenerUrlEventService;
+
+    @Mock
+    private IClickCounterService clickCounterService;
+
+    private RedirectPropertiesConfig redirectPropertiesConfig;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        redirectPropertiesConfig = new RedirectPropertiesConfig(false, Duration.ofMinutes(5), true);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new RedirectController(listenerUrlEventService, clickCounterService, redirectPropertiesConfig))
+                .build();
+    }
+
+    @Test
+    void redirect_shouldReturnFoundWithLocation_whenCodeExists() throws Exception {
+        when(listenerUrlEventService.resolveOriginalUrl(SHORT_URL)).thenReturn(ORIGINAL_URL);
+
+        mockMvc.perform(get("/" + SHORT_URL))
+                .andExpect(status().isFound())
+                .andExpect(header().string("Location", ORIGINAL_URL))
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(content().string(""));
+        verify(clickCounterService).recordClick(SHORT_URL);
+    }
+
+    @Test
+    void redirect_shouldReturnMovedPermanently_whenPermanentRedirectsAreConfigured() throws Exception {
+        redirectPropertiesConfig.setPermanent(true);
+        redirectPropertiesConfig.setCachePublic(false);
+        when(listenerUrlEventService.resolveOriginalUrl(SHORT_URL)).thenReturn(ORIGINAL_URL);
+
+        mockMvc.perform(get("/" + SHORT_URL))
+                .andExpect(status().isMovedPermanently())
+                .andExpect(header().string("Location", ORIGINAL_URL))
+                .andExpect(header().string("Cache-Control", "max-age=300, private"));
+    }
+
+    @Test
+    void redirect_shouldReturnNotFoundWithoutCaching_whenCodeDoesNotExist() throws Exception {
+        when(listenerUrlEventService.resolveOriginalUrl(SHORT_URL)).thenReturn(null);
+
+        mockMvc.perform(get("/" + SHORT_URL))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(header().doesNotExist("Location"));
+        verify(clickCounterService, never()).recordClick(any());
+    }
+}
@@ -0,0 +1,232 @@
+package com.java.listener.unit.service;
+
+import com.java.listener.cache.CachedRedirect;
+import com.java.listener.cache.ShortUrlMembershipIndex;
+import com.java.listener.cache.UrlResolutionCache;
+import com.java.listener.cache.UrlSnapshotStore;
+import com.java.listener.config.CachePropertiesConfig;
+import com.java.listener.config.FilterPropertiesConfig;
+import com.java.listener.config.SnapshotPropertiesConfig;
+import com.java.listener.dto.UrlRedirectProjectionDto;
+import com.java.listener.dto.request.GetUrlEventRequestDto;
+import com.java.listener.dto.response.GetUrlEventResponseDto;
+import com.java.listener.repository.UrlCodeRepository;
+import com.java.listener.repository.UrlRedirectLookupRepository;
+import com.java.listener.service.ListenerUrlEventServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ListenerUrlEventServiceImplTest {
+
+    @Mock
+    private UrlCodeRepository urlCodeRepository;
+
+    @Mock
+    private UrlRedirectLookupRepository urlRedirectLookupRepository;
+
+    private FilterPropertiesConfig filterPropertiesConfig;
+    private UrlResolutionCache urlResolutionCache;
+    private ShortUrlMembershipIndex shortUrlMembershipIndex;
+    private ListenerUrlEventServiceImpl listenerUrlEventService;
+
+    private static final String SHORT_URL = "aB3xY9z";
+    private static final String ORIGINAL_URL = "https://www.example.com";
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filterPropertiesConfig = new FilterPropertiesConfig();
+        filterPropertiesConfig.setExpectedInsertions(1000);
+
+        urlResolutionCache = new UrlResolutionCache(
+                new CachePropertiesConfig(100, Duration.ofMinutes(1)),
+                filterPropertiesConfig,
+                meterRegistry);
+        shortUrlMembershipIndex = new ShortUrlMembershipIndex(
+                urlCodeRepository, filterPropertiesConfig, urlResolutionCache, meterRegistry);
+        SnapshotPropertiesConfig snapshotPropertiesConfig = new SnapshotPropertiesConfig();
+        snapshotPropertiesConfig.setEnabled(false);
+        UrlSnapshotStore urlSnapshotStore = new UrlSnapshotStore(
+                snapshotPropertiesConfig, urlRedirectLookupRepository, urlResolutionCache, meterRegistry);
+        listenerUrlEventService = new ListenerUrlEventServiceImpl(
+                urlRedirectLookupRepository, urlResolutionCache, shortUrlMembershipIndex, urlSnapshotStore);
+    }
+
+    @Test
+    void getUrlEventByShortUrl_shouldQueryRepositoryOnce_whenCodeIsResolvedRepeatedly() {
+        when(urlRedirectLookupRepository.findByCode(SHORT_URL)).thenReturn(Optional.of(projection(true, false)));
+
+        GetUrlEventResponseDto first = listenerUrlEventService.getUrlEventByShortUrl(request(SHORT_URL));
+        GetUrlEventResponseDto second = listenerUrlEventService.getUrlEventByShortUrl(request(SHORT_URL));
+
+        assertTrue(first.success());
+        assertEquals(ORIGINAL_URL, first.url());
+        assertEquals(first, second);
+        verify(urlRedirectLookupRepository, times(1)).findByCode(SHORT_URL);
+        assertEquals(1, urlResolutionCache.stats().hitCount());
+        assertEquals(1, urlResolutionCache.stats().missCount());
+    }
+
+    @Test
+    void getUrlEventByShortUrl_shouldUseNegativeCache_whenCodeDoesNotExist() {
+        when(urlRedirectLookupRepository.findByCode(SHORT_URL)).thenReturn(Optional.empty());
+
+        GetUrlEventResponseDto response = listenerUrlEventService.getUrlEventByShortUrl(request(SHORT_URL));
+        listenerUrlEventService.getUrlEventByShortUrl(request(SHORT_URL));
+
+        assertFalse(response.success());
+        assertEquals("URL not found", response.url());
+        verify(urlRedirectLookupRepository, times(1)).findByCode(SHORT_URL);
+        assertEquals(0, urlResolutionCache.estimatedSize());
+        assertTrue(urlResolutionCache.isKnownMissing(SHORT_URL));
+    }
+
+    @Test
+    void getUrlEventByShortUrl_shouldNotQueryRepository_whenFilterRejectsCode() {
+        when(urlCodeRepository.findCodesAfter(eq(""), anyInt())).thenReturn(List.of(SHORT_URL));
+        shortUrlMembershipIndex.rebuild();
+
+        GetUrlEventResponseDto response = listenerUrlEventService.getUrlEventByShortUrl(request("unknown"));
+
+        assertFalse(response.success());
+        verify(urlRedirectLookupRepository, never()).findByCode(any());
+    }
+
+    @Test
+    void getUrlEventByShortUrl_shouldRefreshFilter_whenCodeWasCreatedAfterLastScan() {
+        when(urlCodeRepository.findCodesAfter(eq(""), anyInt())).thenReturn(List.of());
+        shortUrlMembershipIndex.rebuild();
+        filterPropertiesConfig.setMissRefreshInterval(Duration.ZERO);
+        when(urlCodeRepository.findCodesCreatedSince(any())).thenReturn(List.of(SHORT_URL));
+        when(urlRedirectLookupRepository.findByCode(SHORT_URL)).thenReturn(Optional.of(projection(true, false)));
+
+        GetUrlEventResponseDto response = listenerUrlEventService.getUrlEventByShortUrl(request(SHORT_URL));
+
+        assertTrue(response.success());
+        assertEquals(ORIGINAL_URL, response.url());
+    }
+
+    @Test
+    void mightContain_shouldNotRefreshAgain_withinMissRefreshInterval() {
+        when(urlCodeRepository.findCodesAfter(eq(""), anyInt())).thenReturn(List.of());
+        shortUrlMembershipIndex.rebuild();
+        filterPropertiesConfig.setMissRefreshInterval(Duration.ofMinutes(1));
+
+        assertFalse(shortUrlMembershipIndex.mightContain("unknown1"));
+        assertFalse(shortUrlMembershipIndex.mightContain("unknown2"));
+
+        verify(urlCodeRepository, never()).findCodesCreatedSince(any());
+    }
+
+    @Test
+    void mightContain_shouldRejectWithoutWaiting_whileAnotherMissRefreshes() throws Exception {
+        when(urlCodeRepository.findCodesAfter(eq(""), anyInt())).thenReturn(List.of());
+        shortUrlMembershipIndex.rebuild();
+        filterPropertiesConfig.setMissRefreshInterval(Duration.ZERO);
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(urlCodeRepository.findCodesCreatedSince(any())).thenAnswer(invocation -> {
+            querying.countDown();
+            release.await();
+            return List.of(SHORT_URL);
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> refreshing = executor.submit(() -> shortUrlMembershipIndex.mightContain(SHORT_URL));
+            querying.await();
+
+            assertFalse(shortUrlMembershipIndex.mightContain("unknown1"));
+
+            release.countDown();
+            assertTrue(refreshing.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+        verify(urlCodeRepository, times(1)).findCodesCreatedSince(any());
+    }
+
+    @Test
+    void refresh_shouldClearNegativeCache_whenCodeIsCreatedAfterMiss() {
+        when(urlCodeRepository.findCodesAfter(eq(""), anyInt())).thenReturn(List.of());
+        shortUrlMembershipIndex.rebuild();
+        urlResolutionCache.markMissing(SHORT_URL);
+        when(urlCodeRepository.findCodesCreatedSince(any())).thenReturn(List.of(SHORT_URL));
+
+        shortUrlMembershipIndex.refresh();
+
+        assertTrue(shortUrlMembershipIndex.mightContain(SHORT_URL));
+        assertFalse(urlResolutionCache.isKnownMissing(SHORT_URL));
+    }
+
+    @Test
+    void getUrlEventByShortUrl_shouldReturnNotFound_whenShortUrlIsNull() {
+        GetUrlEventResponseDto response = listenerUrlEventService.getUrlEventByShortUrl(request(null));
+
+        assertFalse(response.success());
+        verifyNoInteractions(urlRedirectLookupRepository);
+    }
+
+    @Test
+    void getUrlEventByShortUrl_shouldReturnNotFound_whenUrlIsInactive() {
+        when(urlRedirectLookupRepository.findByCode(SHORT_URL)).thenReturn(Optional.of(projection(false, false)));
+
+        GetUrlEventResponseDto response = listenerUrlEventService.getUrlEventByShortUrl(request(SHORT_URL));
+
+        assertFalse(response.success());
+        assertEquals(1, urlResolutionCache.estimatedSize());
+        listenerUrlEventService.getUrlEventByShortUrl(request(SHORT_URL));
+        verify(urlRedirectLookupRepository, times(1)).findByCode(SHORT_URL);
+    }
+
+    @Test
+    void getUrlEventByShortUrl_shouldReturnNotFoundWithoutQuery_whenCachedLinkHasExpired() {
+        OffsetDateTime now = OffsetDateTime.now();
+        urlResolutionCache.put(SHORT_URL, CachedRedirect.of(ORIGINAL_URL, now.minusDays(2), now.minusDays(1)));
+
+        GetUrlEventResponseDto response = listenerUrlEventService.getUrlEventByShortUrl(request(SHORT_URL));
+
+        assertFalse(response.success());
+        verifyNoInteractions(urlRedirectLookupRepository);
+    }
+
+    @Test
+    void getUrlEventByShortUrl_shouldResolveWithoutQuery_whenCachedWindowHasOpened() {
+        OffsetDateTime now = OffsetDateTime.now();
+        urlResolutionCache.put(SHORT_URL, CachedRedirect.of(ORIGINAL_URL, now.minusSeconds(1), now.plusDays(1)));
+
+        GetUrlEventResponseDto response = listenerUrlEventService.getUrlEventByShortUrl(request(SHORT_URL));
+
+        assertTrue(response.success());
+        assertEquals(ORIGINAL_URL, response.url());
+        verifyNoInteractions(urlRedirectLookupRepository);
+    }
+
+    private static UrlRedirectProjectionDto projection(boolean active, boolean deleted) {
+        return new UrlRedirectProjectionDto(ORIGINAL_URL, active, deleted, OffsetDateTime.now().minusDays(1), null);
+    }
+
+    private static GetUrlEventRequestDto request(String shortUrl) {
+        return new GetUrlEventRequestDto(shortUrl, "CLICK", "2025-01-01T00:00:00Z", "127.0.0.1");
+    }
+}
@@ -0,0 +1,83 @@
+package com.java.listener.unit.service;
+
+import com.java.listener.config.ClickPropertiesConfig;
+import com.java.listener.repository.ClickCountRepository;
+import com.java.listener.service.QueuedClickCounterServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueuedClickCounterServiceImplTest {
+
+    @Mock
+    private ClickCountRepository clickCountRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueuedClickCounterServiceImpl clickCounterService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ClickPropertiesConfig clickPropertiesConfig = new ClickPropertiesConfig(
+                ClickPropertiesConfig.Mode.QUEUE, 3, 500, Duration.ofSeconds(1), ClickPropertiesConfig.BackpressurePolicy.DROP, Duration.ofMillis(1));
+        clickCounterService = new QueuedClickCounterServiceImpl(clickCountRepository, clickPropertiesConfig, meterRegistry);
+    }
+
+    @Test
+    void flushPending_shouldWriteOneDeltaPerShortCode() {
+        clickCounterService.recordClick("abc");
+        clickCounterService.recordClick("abc");
+        clickCounterService.recordClick("xyz");
+
+        clickCounterService.flushPending();
+
+        verify(clickCountRepository).incrementClickCounts(Map.of("abc", 2L, "xyz", 1L));
+        assertEquals(3, meterRegistry.counter("listener.clicks.flushed").count());
+    }
+
+    @Test
+    void recordClick_shouldDropClick_whenQueueIsFull() {
+        for (int i = 0; i < 5; i++) {
+            clickCounterService.recordClick("abc");
+        }
+
+        clickCounterService.flushPending();
+
+        verify(clickCountRepository).incrementClickCounts(Map.of("abc", 3L));
+        assertEquals(3, meterRegistry.counter("listener.clicks.enqueued").count());
+        assertEquals(2, meterRegistry.counter("listener.clicks.dropped").count());
+    }
+
+    @Test
+    void flushPending_shouldKeepDeltas_whenBatchFails() {
+        when(clickCountRepository.incrementClickCounts(any()))
+                .thenThrow(new RuntimeException("connection refused"))
+                .thenReturn(new int[]{1});
+        clickCounterService.recordClick("abc");
+        clickCounterService.flushPending();
+        clickCounterService.recordClick("abc");
+
+        clickCounterService.flushPending();
+
+        verify(clickCountRepository).incrementClickCounts(Map.of("abc", 1L));
+        verify(clickCountRepository).incrementClickCounts(Map.of("abc", 2L));
+    }
+
+    @Test
+    void flushPending_shouldNotTouchDatabase_whenNothingWasRecorded() {
+        clickCounterService.flushPending();
+
+        verifyNoInteractions(clickCountRepository);
+    }
+}
@@ -0,0 +1,89 @@
+package com.java.listener.unit.service;
+
+import com.java.listener.repository.ClickCountRepository;
+import com.java.listener.service.StripedClickCounterServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StripedClickCounterServiceImplTest {
+
+    @Mock
+    private ClickCountRepository clickCountRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StripedClickCounterServiceImpl clickCounterService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clickCounterService = new StripedClickCounterServiceImpl(clickCountRepository, meterRegistry);
+    }
+
+    @Test
+    void flushPending_shouldWriteEveryClick_whenRecordedConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    clickCounterService.recordClick("hot");
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        clickCounterService.flushPending();
+
+        verify(clickCountRepository).incrementClickCounts(Map.of("hot", 80_000L));
+        assertEquals(80_000, meterRegistry.counter("listener.clicks.flushed").count());
+    }
+
+    @Test
+    void flushPending_shouldRemoveCounter_whenCodeStaysIdle() {
+        clickCounterService.recordClick("abc");
+        clickCounterService.flushPending();
+        clickCounterService.flushPending();
+
+        assertEquals(0, meterRegistry.get("listener.clicks.counters").gauge().value());
+        verify(clickCountRepository, times(1)).incrementClickCounts(any());
+    }
+
+    @Test
+    void flushPending_shouldRestoreDeltas_whenBatchFails() {
+        when(clickCountRepository.incrementClickCounts(any()))
+                .thenThrow(new RuntimeException("connection refused"))
+                .thenReturn(new int[]{1});
+        clickCounterService.recordClick("abc");
+        clickCounterService.flushPending();
+        clickCounterService.recordClick("abc");
+
+        clickCounterService.flushPending();
+
+        verify(clickCountRepository).incrementClickCounts(Map.of("abc", 2L));
+    }
+
+    @Test
+    void stop_shouldFlushPendingClicks() {
+        clickCounterService.start();
+        clickCounterService.recordClick("abc");
+
+        clickCounterService.stop();
+
+        verify(clickCountRepository).incrementClickCounts(Map.of("abc", 1L));
+    }
+}